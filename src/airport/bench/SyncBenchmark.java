@@ -0,0 +1,206 @@
+package airport.bench;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+
+import airport.sync.AirportSynchronization;
+import airport.sync.SyncStrategy;
+import airport.utils.LatencyHistogram;
+
+/**
+ * Banc d'essai des AirportSynchronization, sans GUI ni sleep : chaque thread
+ * enchaîne des cycles arrivée (piste d'atterrissage puis porte) ou départ
+ * (porte puis piste de décollage) selon la proportion d'arrivées demandée.
+ *
+ * Pour chaque combinaison stratégie × threads × pistes/portes × mix, on fait
+ * des itérations de chauffe puis de mesure et on affiche les acquisitions/s
+ * et les percentiles de latence d'acquisition (ns).
+ *
+ * Exemple :
+ *   java -cp bin airport.bench.SyncBenchmark --threads 1,4,16,64
+ *        --airports 2x4,5x10 --arrivals 0.5,0.8 --time 1000
+ */
+public class SyncBenchmark {
+
+    private List<SyncStrategy> strategies = List.of(SyncStrategy.values());
+    private int[] threadCounts = {1, 4, 16, 64};
+    private int[][] airports = {{2, 4}, {5, 10}};
+    private double[] arrivalMixes = {0.5, 0.8};
+    private int warmupIterations = 2;
+    private int measureIterations = 3;
+    private long iterationMs = 1000;
+    private long holdNanos = 0;
+
+    public static void main(String[] args) throws InterruptedException {
+        SyncBenchmark bench = new SyncBenchmark();
+        try {
+            bench.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(
+                    "Usage : SyncBenchmark [--sync S1,S2] [--threads 1,4,16] [--airports 2x4,5x10]\n" +
+                    "                      [--arrivals 0.5,0.8] [--warmup N] [--iterations N]\n" +
+                    "                      [--time ms] [--hold ns]");
+            System.exit(2);
+        }
+        bench.run();
+    }
+
+    private void parse(String[] args) {
+        for (int i = 0; i < args.length; i += 2) {
+            if (i + 1 >= args.length) {
+                throw new IllegalArgumentException("Valeur manquante pour " + args[i]);
+            }
+            String[] values = args[i + 1].split(",");
+            switch (args[i]) {
+                case "--sync":
+                    strategies = new ArrayList<>();
+                    for (String v : values) {
+                        strategies.add(SyncStrategy.parse(v));
+                    }
+                    break;
+                case "--threads":
+                    threadCounts = new int[values.length];
+                    for (int k = 0; k < values.length; k++) {
+                        threadCounts[k] = Integer.parseInt(values[k]);
+                    }
+                    break;
+                case "--airports":
+                    airports = new int[values.length][];
+                    for (int k = 0; k < values.length; k++) {
+                        String[] rg = values[k].split("x");
+                        airports[k] = new int[] {Integer.parseInt(rg[0]), Integer.parseInt(rg[1])};
+                    }
+                    break;
+                case "--arrivals":
+                    arrivalMixes = new double[values.length];
+                    for (int k = 0; k < values.length; k++) {
+                        arrivalMixes[k] = Double.parseDouble(values[k]);
+                    }
+                    break;
+                case "--warmup": warmupIterations = Integer.parseInt(values[0]); break;
+                case "--iterations": measureIterations = Integer.parseInt(values[0]); break;
+                case "--time": iterationMs = Long.parseLong(values[0]); break;
+                case "--hold": holdNanos = Long.parseLong(values[0]); break;
+                default: throw new IllegalArgumentException("Option inconnue : " + args[i]);
+            }
+        }
+    }
+
+    private void run() throws InterruptedException {
+        System.out.printf("%-15s %7s %6s %6s %5s %14s %9s %9s %9s %10s %11s%n",
+                "Synchro", "Threads", "Pistes", "Portes", "%Arr",
+                "acq/s", "p50(ns)", "p90(ns)", "p99(ns)", "p99.9(ns)", "max(ns)");
+        for (SyncStrategy strategy : strategies) {
+            for (int[] airport : airports) {
+                for (double mix : arrivalMixes) {
+                    for (int threads : threadCounts) {
+                        runTrial(strategy, airport[0], airport[1], mix, threads);
+                    }
+                }
+            }
+        }
+    }
+
+    private void runTrial(SyncStrategy strategy, int runways, int gates,
+                          double arrivalMix, int threads) throws InterruptedException {
+        AirportSynchronization sync = strategy.create(runways, gates);
+        for (int i = 0; i < warmupIterations; i++) {
+            runIteration(sync, arrivalMix, threads, new LatencyHistogram());
+        }
+        LatencyHistogram latency = new LatencyHistogram();
+        long acquisitions = 0;
+        long elapsedNanos = 0;
+        for (int i = 0; i < measureIterations; i++) {
+            long t0 = System.nanoTime();
+            acquisitions += runIteration(sync, arrivalMix, threads, latency);
+            elapsedNanos += System.nanoTime() - t0;
+        }
+        System.out.printf("%-15s %7d %6d %6d %5.0f %,14.0f %9d %9d %9d %10d %,11d%n",
+                strategy.getLabel(), threads, runways, gates, arrivalMix * 100,
+                acquisitions / (elapsedNanos / 1e9),
+                latency.valueAtPercentile(50), latency.valueAtPercentile(90),
+                latency.valueAtPercentile(99), latency.valueAtPercentile(99.9),
+                latency.getMax());
+    }
+
+    private long runIteration(AirportSynchronization sync, double arrivalMix, int threads,
+                              LatencyHistogram latency) throws InterruptedException {
+        AtomicLong acquisitions = new AtomicLong();
+        CountDownLatch startGate = new CountDownLatch(1);
+        long[] deadline = new long[1];
+        List<Thread> workers = new ArrayList<>(threads);
+        for (int t = 0; t < threads; t++) {
+            long seed = t;
+            Thread w = new Thread(() -> {
+                SplittableRandom random = new SplittableRandom(seed);
+                LatencyHistogram local = new LatencyHistogram();
+                long ops = 0;
+                try {
+                    startGate.await();
+                    while (System.nanoTime() < deadline[0]) {
+                        if (random.nextDouble() < arrivalMix) {
+                            arrivalCycle(sync, local);
+                        } else {
+                            departureCycle(sync, local);
+                        }
+                        ops += 2;
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                latency.add(local);
+                acquisitions.addAndGet(ops);
+            }, "bench-" + t);
+            workers.add(w);
+            w.start();
+        }
+        deadline[0] = System.nanoTime() + iterationMs * 1_000_000L;
+        startGate.countDown();
+        for (Thread w : workers) {
+            w.join();
+        }
+        return acquisitions.get();
+    }
+
+    private void arrivalCycle(AirportSynchronization sync, LatencyHistogram h) throws InterruptedException {
+        long t0 = System.nanoTime();
+        sync.requestRunwayForLanding();
+        h.record(System.nanoTime() - t0);
+        hold();
+        sync.releaseRunway();
+
+        t0 = System.nanoTime();
+        sync.requestGate();
+        h.record(System.nanoTime() - t0);
+        hold();
+        sync.releaseGate();
+    }
+
+    private void departureCycle(AirportSynchronization sync, LatencyHistogram h) throws InterruptedException {
+        long t0 = System.nanoTime();
+        sync.requestGate();
+        h.record(System.nanoTime() - t0);
+        hold();
+        sync.releaseGate();
+
+        t0 = System.nanoTime();
+        sync.requestRunwayForTakeoff();
+        h.record(System.nanoTime() - t0);
+        hold();
+        sync.releaseRunway();
+    }
+
+    // Occupation simulée de la ressource, en attente active (pas de sleep).
+    private void hold() {
+        if (holdNanos > 0) {
+            long end = System.nanoTime() + holdNanos;
+            while (System.nanoTime() < end) {
+                Thread.onSpinWait();
+            }
+        }
+    }
+}
@@ -1,13 +1,33 @@
 package airport.core;
 
 import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
 
+import airport.journal.EventJournal;
+import airport.journal.JournalEventType;
+import airport.jfr.ResourceEvent;
+import airport.metrics.FlightMetrics;
+import airport.metrics.ResourceUsage;
+import airport.metrics.StrategyMetrics;
 import airport.model.Airplane;
+import airport.model.AirplaneState;
+import airport.model.FlightLimits;
 import airport.model.FlightType;
 import airport.model.Gate;
 import airport.model.Runway;
 import airport.sync.AirportSynchronization;
+import airport.sync.ContentionProfiled;
+import airport.sync.ContentionStats;
+import airport.sync.HotSwapSynchronization;
+import airport.sync.SyncStrategy;
 import airport.utils.SimLogger;
 
 public class Airport {
@@ -15,36 +35,91 @@ public class Airport {
     private final List<Runway> runways = new ArrayList<>();
     private final List<Gate> gates = new ArrayList<>();
 
-    private final List<Airplane> landingQueue = new ArrayList<>();
-    private final List<Airplane> takeoffQueue = new ArrayList<>();
+    // Index des ressources libres (bit i = ressource d'indice i) : on alloue
+    // toujours la plus petite libre, par recherche du premier bit à 1 (mot
+    // de 64 bits à la fois) au lieu d'interroger chaque isFree().
+    private final BitSet freeRunwaySlots = new BitSet();
+    private final BitSet freeGateSlots = new BitSet();
 
-    private AirportSynchronization sync;
+    // Taux d'occupation, protégés par le verrou de la table correspondante
+    private final ResourceUsage runwayUsage;
+    private final ResourceUsage gateUsage;
+
+    // Une file = un verrou (on se synchronise sur la file elle-même).
+    // LinkedHashSet : ordre d'arrivée conservé pour l'affichage, et retrait
+    // en O(1) d'un avion quelle que soit sa position (la synchro ne garantit
+    // pas un service FIFO).
+    private final Set<Airplane> landingQueue = new LinkedHashSet<>();
+    private final Set<Airplane> takeoffQueue = new LinkedHashSet<>();
+
+    // Tailles des files, écrites sous leur verrou, lues sans verrou
+    private volatile int landingQueueSize;
+    private volatile int takeoffQueueSize;
+
+    // Chaque modification y est consignée sous le verrou de la donnée
+    // modifiée ; les lecteurs en tirent l'instantané sans prendre ces verrous
+    private final SnapshotPublisher snapshots;
+
+    private volatile AirportSynchronization sync;
     private final SimLogger logger;
 
-    private AirportObserver observer;
+    // Lu sans verrou : le callback s'exécute hors de toute section critique
+    private volatile AirportObserver observer;
+
+    private volatile ExecutionMode executionMode = ExecutionMode.PLATEFORME;
+
+    // Horloge des mesures (ns) : réelle par défaut, virtuelle en simulation à événements
+    private volatile LongSupplier clock = System::nanoTime;
+    private volatile long origin = System.nanoTime();
+
+    // Journal binaire optionnel de tous les événements
+    private volatile EventJournal journal;
+
+    private final FlightMetrics metrics = new FlightMetrics();
+    private volatile StrategyMetrics currentMetrics;
 
-    private int nextPlaneId = 1;
+    private final AtomicInteger nextPlaneId = new AtomicInteger(1);
+
+    // Atterrissages + décollages, pour mesurer le débit réellement écoulé
+    private final LongAdder runwayMovements = new LongAdder();
+
+    // Threads des vols en cours, pour pouvoir les arrêter (shutdown)
+    private final Set<Thread> planeThreads = ConcurrentHashMap.newKeySet();
+
+    // Attentes maximales avant déroutement / poste éloigné
+    private volatile FlightLimits flightLimits = FlightLimits.NONE;
+
+    // Graine des tirages aléatoires des vols ; null = non reproductible
+    private volatile Long seed;
 
     public Airport(int nbRunways, int nbGates,
                    AirportSynchronization sync,
                    SimLogger logger) {
         this.sync = sync;
         this.logger = logger;
+        this.currentMetrics = metrics.forStrategy(strategyName(sync));
+        this.runwayUsage = new ResourceUsage(nbRunways);
+        this.gateUsage = new ResourceUsage(nbGates);
         for (int i = 0; i < nbRunways; i++) {
             runways.add(new Runway(i + 1));
         }
         for (int i = 0; i < nbGates; i++) {
             gates.add(new Gate(i + 1));
         }
+        freeRunwaySlots.set(0, nbRunways);
+        freeGateSlots.set(0, nbGates);
+        this.snapshots = new SnapshotPublisher(nbRunways, nbGates);
     }
 
-    public synchronized void setObserver(AirportObserver observer) {
+    public void setObserver(AirportObserver observer) {
         this.observer = observer;
     }
 
-    private synchronized void notifyObserver() {
-        if (observer != null) {
-            observer.onAirportStateChanged();
+    private void notifyObserver() {
+        snapshots.compactIfBacklogged();
+        AirportObserver o = observer;
+        if (o != null) {
+            o.onAirportStateChanged();
         }
     }
 
@@ -52,10 +127,136 @@ public class Airport {
         return sync;
     }
 
-    public synchronized void setSync(AirportSynchronization sync) {
+    public void setSync(AirportSynchronization sync) {
+        this.currentMetrics = metrics.forStrategy(strategyName(sync));
         this.sync = sync;
     }
 
+    // Nom de la stratégie courante (celle qu'enveloppe une bascule à chaud)
+    public String getStrategyName() {
+        return strategyName(sync);
+    }
+
+    private static String strategyName(AirportSynchronization sync) {
+        if (sync instanceof HotSwapSynchronization) {
+            sync = ((HotSwapSynchronization) sync).getDelegate();
+        }
+        return sync == null ? "aucune" : sync.getClass().getSimpleName();
+    }
+
+    // Compteurs de contention de la stratégie courante ; null si elle n'est pas instrumentée
+    public ContentionStats getContentionStats() {
+        AirportSynchronization s = sync;
+        if (s instanceof HotSwapSynchronization) {
+            s = ((HotSwapSynchronization) s).getDelegate();
+        }
+        return s instanceof ContentionProfiled ? ((ContentionProfiled) s).getContentionStats() : null;
+    }
+
+    /**
+     * Change de stratégie sans interrompre le trafic. La synchro courante doit
+     * être une HotSwapSynchronization ; retourne le nombre d'avions en attente
+     * transférés vers la nouvelle stratégie.
+     */
+    public int swapSync(SyncStrategy strategy) {
+        AirportSynchronization s = sync;
+        if (!(s instanceof HotSwapSynchronization)) {
+            throw new IllegalStateException("La synchro " + strategyName(s) + " ne peut pas être changée à chaud.");
+        }
+        int moved = ((HotSwapSynchronization) s).swap(strategy);
+        this.currentMetrics = metrics.forStrategy(strategyName(s));
+        return moved;
+    }
+
+    public ExecutionMode getExecutionMode() {
+        return executionMode;
+    }
+
+    public void setExecutionMode(ExecutionMode executionMode) {
+        if (!executionMode.isSupported()) {
+            throw new UnsupportedOperationException(
+                    "Mode " + executionMode + " non supporté par cette JVM.");
+        }
+        this.executionMode = executionMode;
+    }
+
+    public void setClock(LongSupplier clock) {
+        this.clock = clock;
+        this.origin = clock.getAsLong();
+    }
+
+    public long nanoTime() {
+        return clock.getAsLong();
+    }
+
+    // --------- Journal ----------
+
+    public void setJournal(EventJournal journal) {
+        this.journal = journal;
+    }
+
+    private void journal(JournalEventType type, Airplane a, int resource) {
+        EventJournal j = journal;
+        if (j != null) {
+            j.append(type, nanoTime(), a.getNumber(), a.getType(), resource,
+                    type == JournalEventType.STATE ? a.getAirplaneState() : null);
+        }
+    }
+
+    // --------- Mesures ----------
+
+    public FlightMetrics getMetrics() {
+        return metrics;
+    }
+
+    public StrategyMetrics getCurrentMetrics() {
+        return currentMetrics;
+    }
+
+    // Appelé à chaque changement d'état avec le temps passé dans l'état quitté
+    public void recordStateTime(Airplane a, AirplaneState state, long nanos) {
+        currentMetrics.record(a.getType(), state, nanos);
+    }
+
+    public void recordFlightTime(Airplane a, long nanos) {
+        currentMetrics.recordFlight(nanos);
+    }
+
+    public void recordDiversion(Airplane a) {
+        currentMetrics.recordDiversion();
+    }
+
+    public void recordRemoteStand(Airplane a) {
+        currentMetrics.recordRemoteStand();
+    }
+
+    // Attente d'une piste en vol, comptée en circuits d'attente entamés
+    public void recordHolding(Airplane a, long waitedMs) {
+        if (waitedMs > 0) {
+            currentMetrics.recordHoldingLoops((waitedMs + Airplane.HOLDING_LOOP_MS - 1) / Airplane.HOLDING_LOOP_MS);
+        }
+    }
+
+    public FlightLimits getFlightLimits() {
+        return flightLimits;
+    }
+
+    public void setFlightLimits(FlightLimits flightLimits) {
+        this.flightLimits = flightLimits;
+    }
+
+    public double getRunwayUtilization() {
+        synchronized (freeRunwaySlots) {
+            return runwayUsage.utilization(origin, nanoTime());
+        }
+    }
+
+    public double getGateUtilization() {
+        synchronized (freeGateSlots) {
+            return gateUsage.utilization(origin, nanoTime());
+        }
+    }
+
     public List<Runway> getRunways() {
         return runways;
     }
@@ -64,80 +265,283 @@ public class Airport {
         return gates;
     }
 
-    public synchronized List<Airplane> getLandingQueueSnapshot() {
-        return new ArrayList<>(landingQueue);
+    // --------- Instantané ----------
+
+    /**
+     * État cohérent des files et des ressources, reconstruit au plus une fois
+     * par modification : tant que rien n'a changé, les lecteurs (une fois par
+     * frame) reçoivent le même instantané. Aucun verrou des écrivains n'est
+     * pris : voir SnapshotPublisher.
+     */
+    public AirportSnapshot getSnapshot() {
+        return snapshots.current();
+    }
+
+    public int getLandingQueueSize() {
+        return landingQueueSize;
     }
 
-    public synchronized List<Airplane> getTakeoffQueueSnapshot() {
-        return new ArrayList<>(takeoffQueue);
+    public int getTakeoffQueueSize() {
+        return takeoffQueueSize;
+    }
+
+    public List<Airplane> getLandingQueueSnapshot() {
+        return getSnapshot().getLandingQueue();
+    }
+
+    public List<Airplane> getTakeoffQueueSnapshot() {
+        return getSnapshot().getTakeoffQueue();
+    }
+
+    // Les notifications sont envoyées après avoir rendu le verrou.
+
+    public void addToLandingQueue(Airplane a) {
+        synchronized (landingQueue) {
+            if (landingQueue.add(a)) {
+                landingQueueSize = landingQueue.size();
+                snapshots.record(JournalEventType.LANDING_QUEUE_ADD, a, 0);
+            }
+            journal(JournalEventType.LANDING_QUEUE_ADD, a, 0);
+        }
+        notifyObserver();
     }
 
-    public synchronized void addToLandingQueue(Airplane a) {
-        landingQueue.add(a);
+    public void removeFromLandingQueue(Airplane a) {
+        synchronized (landingQueue) {
+            if (landingQueue.remove(a)) {
+                landingQueueSize = landingQueue.size();
+                snapshots.record(JournalEventType.LANDING_QUEUE_REMOVE, a, 0);
+            }
+            journal(JournalEventType.LANDING_QUEUE_REMOVE, a, 0);
+        }
         notifyObserver();
     }
 
-    public synchronized void removeFromLandingQueue(Airplane a) {
-        landingQueue.remove(a);
+    public void addToTakeoffQueue(Airplane a) {
+        synchronized (takeoffQueue) {
+            if (takeoffQueue.add(a)) {
+                takeoffQueueSize = takeoffQueue.size();
+                snapshots.record(JournalEventType.TAKEOFF_QUEUE_ADD, a, 0);
+            }
+            journal(JournalEventType.TAKEOFF_QUEUE_ADD, a, 0);
+        }
         notifyObserver();
     }
 
-    public synchronized void addToTakeoffQueue(Airplane a) {
-        takeoffQueue.add(a);
+    public void removeFromTakeoffQueue(Airplane a) {
+        synchronized (takeoffQueue) {
+            if (takeoffQueue.remove(a)) {
+                takeoffQueueSize = takeoffQueue.size();
+                snapshots.record(JournalEventType.TAKEOFF_QUEUE_REMOVE, a, 0);
+            }
+            journal(JournalEventType.TAKEOFF_QUEUE_REMOVE, a, 0);
+        }
         notifyObserver();
     }
 
-    public synchronized void removeFromTakeoffQueue(Airplane a) {
-        takeoffQueue.remove(a);
+    public void onAirplaneStateChanged(Airplane a) {
+        journal(JournalEventType.STATE, a, 0);
         notifyObserver();
     }
 
-    public synchronized void onAirplaneStateChanged(Airplane a) {
-        // Pour l’instant on se contente de rafraîchir la GUI
+    /**
+     * Occupe une piste et retire l'avion de sa file (atterrissage ou
+     * décollage) en une seule transition : aucun instantané ne le montre à la
+     * fois sur la piste et en attente.
+     */
+    public Runway occupyRunway(Airplane a) {
+        Runway r;
+        Set<Airplane> queue = a.getType() == FlightType.ARRIVEE ? landingQueue : takeoffQueue;
+        synchronized (freeRunwaySlots) {
+            // piste imposée par la synchro (séquenceur), si elle est bien libre
+            int i = sync.assignedRunway(a);
+            if (i < 0 || !freeRunwaySlots.get(i)) {
+                i = bestFreeRunway(a);
+            }
+            if (i < 0) {
+                throw new IllegalStateException("Aucune piste libre alors que la synchro a accordé une piste.");
+            }
+            freeRunwaySlots.clear(i);
+            long now = nanoTime();
+            runwayUsage.occupy(i, now);
+            r = runways.get(i);
+            r.occupy(a);
+            runwayMovements.increment();
+            journal(JournalEventType.RUNWAY_OCCUPY, a, r.getId());
+            ResourceEvent.emit(a, ResourceEvent.RUNWAY, r.getId(), ResourceEvent.OCCUPY, waitedSince(a, now));
+            synchronized (queue) {
+                // une seule entrée pour la piste et la file
+                snapshots.record(JournalEventType.RUNWAY_OCCUPY, a, i);
+                if (queue.remove(a)) {
+                    if (queue == landingQueue) {
+                        landingQueueSize = queue.size();
+                    } else {
+                        takeoffQueueSize = queue.size();
+                    }
+                }
+                journal(a.getType() == FlightType.ARRIVEE
+                        ? JournalEventType.LANDING_QUEUE_REMOVE : JournalEventType.TAKEOFF_QUEUE_REMOVE, a, 0);
+            }
+        }
         notifyObserver();
+        return r;
     }
 
-    public synchronized Runway occupyRunway(Airplane a) {
-        for (Runway r : runways) {
-            if (r.isFree()) {
-                r.occupy(a);
-                notifyObserver();
-                return r;
+    // Piste libre dont l'écart de sillage restant est le plus court ; appelé sous verrou
+    private int bestFreeRunway(Airplane a) {
+        int best = freeRunwaySlots.nextSetBit(0);
+        if (best < 0) {
+            return best;
+        }
+        long now = nanoTime();
+        long bestGap = runways.get(best).separationRemainingMs(a, now, a.getSpeedFactor());
+        for (int i = freeRunwaySlots.nextSetBit(best + 1); i >= 0 && bestGap > 0; i = freeRunwaySlots.nextSetBit(i + 1)) {
+            long gap = runways.get(i).separationRemainingMs(a, now, a.getSpeedFactor());
+            if (gap < bestGap) {
+                best = i;
+                bestGap = gap;
             }
         }
-        throw new IllegalStateException("Aucune piste libre alors que la synchro a accordé une piste.");
+        return best;
+    }
+
+    // Écart de sillage (ms simulées) que a doit encore respecter avant d'utiliser r
+    public long separationMs(Runway r, Airplane a) {
+        return r.separationRemainingMs(a, nanoTime(), a.getSpeedFactor());
     }
 
-    public synchronized void freeRunway(Runway r) {
-        r.release();
+    // Attente de la ressource : l'avion est encore dans son état ATTENTE_*
+    private static long waitedSince(Airplane a, long now) {
+        long since = a.getStateSince();
+        return since < 0 ? -1 : now - since;
+    }
+
+    public void freeRunway(Runway r) {
+        synchronized (freeRunwaySlots) {
+            Airplane a = r.getCurrentAirplane();
+            if (a != null) {
+                journal(JournalEventType.RUNWAY_FREE, a, r.getId());
+            }
+            long now = nanoTime();
+            long since = runwayUsage.occupiedSince(r.getId() - 1);
+            ResourceEvent.emit(a, ResourceEvent.RUNWAY, r.getId(), ResourceEvent.FREE, since < 0 ? -1 : now - since);
+            r.release(now);
+            snapshots.record(JournalEventType.RUNWAY_FREE, a, r.getId() - 1);
+            freeRunwaySlots.set(r.getId() - 1);
+            runwayUsage.release(r.getId() - 1, now);
+        }
         notifyObserver();
     }
 
-    public synchronized Gate occupyGate(Airplane a) {
-        for (Gate g : gates) {
-            if (g.isFree()) {
-                g.occupy(a);
-                notifyObserver();
-                return g;
+    public Gate occupyGate(Airplane a) {
+        Gate g;
+        synchronized (freeGateSlots) {
+            int i = freeGateSlots.nextSetBit(0);
+            if (i < 0) {
+                throw new IllegalStateException("Aucune porte libre alors que la synchro a accordé une porte.");
             }
+            freeGateSlots.clear(i);
+            long now = nanoTime();
+            gateUsage.occupy(i, now);
+            g = gates.get(i);
+            g.occupy(a);
+            snapshots.record(JournalEventType.GATE_OCCUPY, a, i);
+            journal(JournalEventType.GATE_OCCUPY, a, g.getId());
+            ResourceEvent.emit(a, ResourceEvent.GATE, g.getId(), ResourceEvent.OCCUPY, waitedSince(a, now));
         }
-        throw new IllegalStateException("Aucune porte libre alors que la synchro a accordé une porte.");
+        notifyObserver();
+        return g;
     }
 
-    public synchronized void freeGate(Gate g) {
-        g.release();
+    public void freeGate(Gate g) {
+        synchronized (freeGateSlots) {
+            Airplane a = g.getCurrentAirplane();
+            if (a != null) {
+                journal(JournalEventType.GATE_FREE, a, g.getId());
+            }
+            long now = nanoTime();
+            long since = gateUsage.occupiedSince(g.getId() - 1);
+            ResourceEvent.emit(a, ResourceEvent.GATE, g.getId(), ResourceEvent.FREE, since < 0 ? -1 : now - since);
+            g.release();
+            snapshots.record(JournalEventType.GATE_FREE, a, g.getId() - 1);
+            freeGateSlots.set(g.getId() - 1);
+            gateUsage.release(g.getId() - 1, now);
+        }
         notifyObserver();
     }
 
-    private synchronized String nextPlaneId() {
-        return "A" + (nextPlaneId++);
+    // --------- Graine ----------
+
+    public Long getSeed() {
+        return seed;
+    }
+
+    // Chaque vol reçoit son propre flux, dérivé de la graine et de son numéro :
+    // ses tirages ne dépendent pas de l'ordre d'exécution des autres vols.
+    public void setSeed(Long seed) {
+        this.seed = seed;
+    }
+
+    private static SplittableRandom flightRandom(long seed, int number) {
+        // finaliseur de SplitMix64, pour décorréler des numéros consécutifs
+        long z = seed + number * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return new SplittableRandom(z ^ (z >>> 31));
+    }
+
+    public Airplane createPlane(FlightType type, double speedFactor) {
+        int number = nextPlaneId.getAndIncrement();
+        Long s = seed;
+        SplittableRandom random = s == null ? null : flightRandom(s, number);
+        return new Airplane("A" + number, type, this, logger, speedFactor, random);
+    }
+
+    public Thread startPlane(Airplane a) {
+        Thread t = executionMode.start(() -> {
+            planeThreads.add(Thread.currentThread());
+            try {
+                a.run();
+            } finally {
+                planeThreads.remove(Thread.currentThread());
+            }
+        }, a.getAirplaneId());
+        logger.log("Création avion " + a.getAirplaneId() + " (" + a.getType() + ")");
+        return t;
     }
 
     public Airplane createAndStartPlane(FlightType type, double speedFactor) {
-        String id = nextPlaneId();
-        Airplane a = new Airplane(id, type, this, logger, speedFactor);
-        a.start();
-        logger.log("Création avion " + id + " (" + type + ")");
+        Airplane a = createPlane(type, speedFactor);
+        startPlane(a);
         return a;
     }
+
+    // Avions créés depuis le démarrage (vols offerts à l'aéroport)
+    public long getCreatedPlaneCount() {
+        return nextPlaneId.get() - 1;
+    }
+
+    public long getRunwayMovements() {
+        return runwayMovements.sum();
+    }
+
+    public int getActivePlaneCount() {
+        return planeThreads.size();
+    }
+
+    // Identifiants des vols dont le thread tourne encore (nommé d'après l'avion)
+    public List<String> getActivePlaneIds() {
+        List<String> ids = new ArrayList<>();
+        for (Thread t : planeThreads) {
+            ids.add(t.getName());
+        }
+        return ids;
+    }
+
+    // Interrompt tous les vols en cours : ils passent à TERMINE sans attendre
+    public void shutdown() {
+        for (Thread t : planeThreads) {
+            t.interrupt();
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,79 @@
+package airport.core;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import airport.model.Airplane;
+
+/**
+ * État de l'aéroport à un instant : occupant de chaque piste et porte, et
+ * contenu des deux files. Immuable et numéroté : SnapshotPublisher le
+ * reconstruit à la demande d'un lecteur, seulement si une modification a eu
+ * lieu depuis le précédent, sans prendre les verrous des écrivains.
+ *
+ * Les lecteurs (IHM, mesures) voient toujours un seul et même instant ; la
+ * version leur permet de sauter une frame quand rien n'a changé.
+ */
+public final class AirportSnapshot {
+
+    private static final Airplane[] NONE = new Airplane[0];
+
+    private final long version;
+    private final Airplane[] runwayOccupants;
+    private final Airplane[] gateOccupants;
+    private final Airplane[] landingQueue;
+    private final Airplane[] takeoffQueue;
+
+    AirportSnapshot(long version, Airplane[] runwayOccupants, Airplane[] gateOccupants,
+                            Airplane[] landingQueue, Airplane[] takeoffQueue) {
+        this.version = version;
+        this.runwayOccupants = runwayOccupants;
+        this.gateOccupants = gateOccupants;
+        this.landingQueue = landingQueue;
+        this.takeoffQueue = takeoffQueue;
+    }
+
+    // Aéroport vide : toutes les ressources libres, files vides
+    static AirportSnapshot empty(int nbRunways, int nbGates) {
+        return new AirportSnapshot(0, new Airplane[nbRunways], new Airplane[nbGates], NONE, NONE);
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public int getRunwayCount() {
+        return runwayOccupants.length;
+    }
+
+    // Occupant de la piste d'indice i (id - 1) ; null si libre
+    public Airplane getRunwayOccupant(int i) {
+        return runwayOccupants[i];
+    }
+
+    public int getGateCount() {
+        return gateOccupants.length;
+    }
+
+    public Airplane getGateOccupant(int i) {
+        return gateOccupants[i];
+    }
+
+    public int getLandingQueueSize() {
+        return landingQueue.length;
+    }
+
+    public int getTakeoffQueueSize() {
+        return takeoffQueue.length;
+    }
+
+    // Vues en lecture seule, dans l'ordre d'arrivée : aucune copie
+    public List<Airplane> getLandingQueue() {
+        return Collections.unmodifiableList(Arrays.asList(landingQueue));
+    }
+
+    public List<Airplane> getTakeoffQueue() {
+        return Collections.unmodifiableList(Arrays.asList(takeoffQueue));
+    }
+}
@@ -0,0 +1,58 @@
+package airport.core;
+
+import java.lang.reflect.Method;
+
+/**
+ * Mode d'exécution des vols : un thread plateforme par avion (historique)
+ * ou un thread virtuel par avion (JDK 21+), pour tenir 100k+ vols simultanés.
+ *
+ * Avec VIRTUEL, MonitorSynchronization (synchronized + wait) épingle le
+ * thread porteur pendant l'attente, alors que Semaphore et ReentrantLock
+ * « parkent » le thread virtuel et libèrent le porteur.
+ *
+ * Limite du Moniteur en VIRTUEL : chaque avion en attente dans wait()
+ * immobilise un porteur, et l'ordonnanceur du JDK 21 n'en crée pas plus de
+ * 256 par défaut. Au-delà, la simulation se fige. On peut relever ce plafond
+ * au lancement (-Djdk.virtualThreadScheduler.maxPoolSize=N, jusqu'à 32767),
+ * mais chaque attente reste un thread porteur : pour des dizaines de
+ * milliers de vols en attente, utiliser Sémaphore ou ReentrantLock.
+ */
+public enum ExecutionMode {
+    PLATEFORME,
+    VIRTUEL;
+
+    // Thread.startVirtualThread(Runnable) n'existe qu'à partir du JDK 21 :
+    // on le résout par réflexion pour que le projet compile toujours en 17.
+    private static final Method START_VIRTUAL = findStartVirtual();
+
+    private static Method findStartVirtual() {
+        try {
+            return Thread.class.getMethod("startVirtualThread", Runnable.class);
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    public boolean isSupported() {
+        return this == PLATEFORME || START_VIRTUAL != null;
+    }
+
+    public Thread start(Runnable task, String name) {
+        if (this == PLATEFORME) {
+            Thread t = new Thread(task, name);
+            t.start();
+            return t;
+        }
+        if (START_VIRTUAL == null) {
+            throw new UnsupportedOperationException(
+                    "Threads virtuels indisponibles (JDK 21+ requis).");
+        }
+        try {
+            Thread t = (Thread) START_VIRTUAL.invoke(null, task);
+            t.setName(name);
+            return t;
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Impossible de démarrer un thread virtuel.", e);
+        }
+    }
+}
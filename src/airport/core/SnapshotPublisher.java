@@ -0,0 +1,150 @@
+package airport.core;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+import airport.journal.JournalEventType;
+import airport.model.Airplane;
+import airport.model.FlightType;
+
+/**
+ * Publie les AirportSnapshot sans jamais bloquer les écrivains de l'Airport.
+ *
+ * Chaque modification des files ou des ressources est ajoutée à un journal
+ * sans verrou (ConcurrentLinkedQueue), sous le verrou qui protège la donnée
+ * modifiée : les modifications d'une même file ou table y sont dans leur
+ * ordre réel, celles d'un même vol aussi, et tout préfixe du journal décrit
+ * donc un état cohérent.
+ *
+ * Les lecteurs rejouent le journal sur leur propre copie de l'état, sous un
+ * verrou qui n'est qu'à eux, et publient un instantané immuable s'il y a du
+ * nouveau. Un écrivain ne prend ce verrou qu'avec tryLock, pour rejouer le
+ * journal lui-même quand personne ne le lit.
+ */
+final class SnapshotPublisher {
+
+    // Entrées en attente au-delà desquelles un écrivain rejoue le journal
+    private static final int COMPACT_AT = 4096;
+
+    private static final Airplane[] NONE = new Airplane[0];
+
+    // RUNWAY_OCCUPY retire aussi l'avion de sa file : une seule entrée, pour
+    // qu'aucun préfixe ne le montre à la fois sur la piste et en attente
+    private static final class Change {
+        final JournalEventType type;
+        final Airplane airplane;
+        final int index;
+
+        Change(JournalEventType type, Airplane airplane, int index) {
+            this.type = type;
+            this.airplane = airplane;
+            this.index = index;
+        }
+    }
+
+    private final ConcurrentLinkedQueue<Change> changes = new ConcurrentLinkedQueue<>();
+    private final AtomicLong recorded = new AtomicLong();
+    private final ReentrantLock replay = new ReentrantLock();
+
+    // Copie de l'état propre aux lecteurs, sous replay
+    private final Airplane[] runwayOccupants;
+    private final Airplane[] gateOccupants;
+    private final Set<Airplane> landingQueue = new LinkedHashSet<>();
+    private final Set<Airplane> takeoffQueue = new LinkedHashSet<>();
+    private volatile long applied;
+
+    private volatile AirportSnapshot snapshot;
+
+    SnapshotPublisher(int nbRunways, int nbGates) {
+        this.runwayOccupants = new Airplane[nbRunways];
+        this.gateOccupants = new Airplane[nbGates];
+        this.snapshot = AirportSnapshot.empty(nbRunways, nbGates);
+    }
+
+    // Appelé sous le verrou de la donnée modifiée ; index : indice de la ressource
+    void record(JournalEventType type, Airplane a, int index) {
+        changes.offer(new Change(type, a, index));
+        recorded.incrementAndGet();
+    }
+
+    // Appelé hors verrou par les écrivains : ne les fait jamais attendre
+    void compactIfBacklogged() {
+        if (recorded.get() - applied > COMPACT_AT && replay.tryLock()) {
+            try {
+                drain();
+            } finally {
+                replay.unlock();
+            }
+        }
+    }
+
+    /**
+     * Instantané à jour : le même objet tant que rien n'a changé, sinon un
+     * nouveau, numéroté par le nombre de modifications qu'il reflète.
+     */
+    AirportSnapshot current() {
+        AirportSnapshot s = snapshot;
+        if (s.getVersion() == recorded.get()) {
+            return s;
+        }
+        replay.lock();
+        try {
+            drain();
+            s = snapshot;
+            if (s.getVersion() != applied) {
+                s = new AirportSnapshot(applied, runwayOccupants.clone(), gateOccupants.clone(),
+                        landingQueue.toArray(NONE), takeoffQueue.toArray(NONE));
+                snapshot = s;
+            }
+            return s;
+        } finally {
+            replay.unlock();
+        }
+    }
+
+    // Rejoue le journal sur la copie des lecteurs ; appelé sous replay
+    private void drain() {
+        long n = applied;
+        Change c;
+        while ((c = changes.poll()) != null) {
+            apply(c);
+            n++;
+        }
+        applied = n;
+    }
+
+    private void apply(Change c) {
+        switch (c.type) {
+            case LANDING_QUEUE_ADD:
+                landingQueue.add(c.airplane);
+                break;
+            case LANDING_QUEUE_REMOVE:
+                landingQueue.remove(c.airplane);
+                break;
+            case TAKEOFF_QUEUE_ADD:
+                takeoffQueue.add(c.airplane);
+                break;
+            case TAKEOFF_QUEUE_REMOVE:
+                takeoffQueue.remove(c.airplane);
+                break;
+            case RUNWAY_OCCUPY:
+                runwayOccupants[c.index] = c.airplane;
+                (c.airplane.getType() == FlightType.ARRIVEE ? landingQueue : takeoffQueue).remove(c.airplane);
+                break;
+            case RUNWAY_FREE:
+                runwayOccupants[c.index] = null;
+                break;
+            case GATE_OCCUPY:
+                gateOccupants[c.index] = c.airplane;
+                break;
+            case GATE_FREE:
+                gateOccupants[c.index] = null;
+                break;
+            default:
+                throw new IllegalArgumentException("Modification inattendue : " + c.type);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package airport.gui;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import airport.core.AirportObserver;
+import javafx.animation.AnimationTimer;
+
+/**
+ * Observateur qui regroupe les notifications : chaque changement d'état ne
+ * fait que lever un drapeau « sale », et une AnimationTimer déclenche au plus
+ * un rafraîchissement par frame (ou par intervalle minimal), quel que soit
+ * le nombre de changements survenus entre-temps.
+ */
+public class CoalescingNotifier implements AirportObserver {
+
+    private final Runnable refresh;
+    private final AtomicBoolean dirty = new AtomicBoolean();
+
+    private final AtomicLong received = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private long refreshes = 0;
+
+    private volatile long minIntervalNanos;
+    private long lastRefresh = 0;
+
+    private final AnimationTimer timer = new AnimationTimer() {
+        @Override
+        public void handle(long now) {
+            if (now - lastRefresh >= minIntervalNanos && dirty.getAndSet(false)) {
+                lastRefresh = now;
+                refreshes++;
+                refresh.run();
+            }
+        }
+    };
+
+    // minIntervalMs = 0 : un rafraîchissement par frame au maximum
+    public CoalescingNotifier(Runnable refresh, long minIntervalMs) {
+        this.refresh = refresh;
+        this.minIntervalNanos = TimeUnit.MILLISECONDS.toNanos(minIntervalMs);
+    }
+
+    public void setMinInterval(long minIntervalMs) {
+        this.minIntervalNanos = TimeUnit.MILLISECONDS.toNanos(minIntervalMs);
+    }
+
+    public void start() {
+        timer.start();
+    }
+
+    public void stop() {
+        timer.stop();
+    }
+
+    // Appelé depuis les threads des avions
+    @Override
+    public void onAirportStateChanged() {
+        received.incrementAndGet();
+        if (!dirty.compareAndSet(false, true)) {
+            dropped.incrementAndGet();
+        }
+    }
+
+    public long getReceivedCount() {
+        return received.get();
+    }
+
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    // Lu depuis le thread JavaFX uniquement
+    public long getRefreshCount() {
+        return refreshes;
+    }
+}
@@ -0,0 +1,70 @@
+package airport.gui;
+
+/**
+ * Critères de filtrage des logs ; un critère absent laisse tout passer.
+ * Comparaisons d'entiers uniquement, sur les champs précalculés du LogStore.
+ */
+public final class LogFilter {
+
+    public static final LogFilter NONE = new LogFilter(-1, null, 0);
+
+    private final int airplane;  // -1 : tous
+    private final LogKind kind;  // null : toutes
+    private final int resource;  // 0 : toutes (convention de LogStore)
+
+    private LogFilter(int airplane, LogKind kind, int resource) {
+        this.airplane = airplane;
+        this.kind = kind;
+        this.resource = resource;
+    }
+
+    /**
+     * Avion : « A12 » ou « 12 ». Ressource : « P2 » / « piste 2 » ou
+     * « G3 » / « porte 3 ». Un texte vide ou illisible ne filtre pas.
+     */
+    public static LogFilter of(String airplaneText, LogKind kind, String resourceText) {
+        int airplane = parseNumber(airplaneText, "a");
+        int resource = parseNumber(resourceText, "piste", "p");
+        if (resource < 0) {
+            int gate = parseNumber(resourceText, "porte", "gate", "g");
+            resource = gate < 0 ? 0 : -gate;
+        }
+        if (airplane < 0 && kind == null && resource == 0) {
+            return NONE;
+        }
+        return new LogFilter(airplane, kind, resource);
+    }
+
+    // Nombre éventuellement précédé d'un des préfixes (les plus longs d'abord) ; -1 si illisible
+    private static int parseNumber(String text, String... prefixes) {
+        if (text == null) {
+            return -1;
+        }
+        String t = text.trim().toLowerCase();
+        for (String p : prefixes) {
+            if (t.startsWith(p)) {
+                t = t.substring(p.length()).trim();
+                break;
+            }
+        }
+        if (t.isEmpty() || t.length() > 9) {
+            return -1;
+        }
+        for (int i = 0; i < t.length(); i++) {
+            if (!Character.isDigit(t.charAt(i))) {
+                return -1;
+            }
+        }
+        return Integer.parseInt(t);
+    }
+
+    public boolean isEmpty() {
+        return this == NONE;
+    }
+
+    public boolean matches(LogStore store, long seq) {
+        return (airplane < 0 || store.airplane(seq) == airplane)
+                && (kind == null || store.kind(seq) == kind)
+                && (resource == 0 || store.resource(seq) == resource);
+    }
+}
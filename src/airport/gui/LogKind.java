@@ -0,0 +1,24 @@
+package airport.gui;
+
+// Nature d'une ligne de log, déduite de son texte à l'arrivée (voir LogStore).
+public enum LogKind {
+    CREATION("Création"),
+    EN_VOL("En vol"),
+    ATTERRISSAGE("Atterrissage"),
+    DECOLLAGE("Décollage"),
+    PORTE("Porte"),
+    POSTE_ELOIGNE("Poste éloigné"),
+    DEROUTEMENT("Déroutement"),
+    FIN("Fin de vol"),
+    SYSTEME("Système");
+
+    private final String label;
+
+    LogKind(String label) {
+        this.label = label;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+}
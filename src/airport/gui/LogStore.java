@@ -0,0 +1,146 @@
+package airport.gui;
+
+import airport.utils.SimLogger;
+
+/**
+ * Mémoire des logs affichés : un anneau de capacité fixe où les lignes les
+ * plus anciennes sont écrasées. Chaque ligne y est rangée avec son avion, sa
+ * ressource et sa nature, déduits une seule fois à l'arrivée : filtrer ne
+ * réanalyse jamais le texte. Confiné au thread JavaFX.
+ *
+ * Une ligne est repérée par son numéro d'arrivée (seq), qui reste valable
+ * tant qu'elle n'a pas été écrasée (seq >= oldest()).
+ */
+public class LogStore {
+
+    private static final LogKind[] KINDS = LogKind.values();
+
+    private final int capacity;
+    private final int mask;
+    private final long[] times;
+    private final String[] messages;
+    private final int[] airplanes;   // numéro de l'avion, -1 si aucun
+    private final int[] resources;   // n > 0 : piste n, n < 0 : porte -n, 0 : aucune
+    private final byte[] kinds;
+
+    private long next = 0;
+
+    // capacity arrondie à la puissance de 2 supérieure
+    public LogStore(int capacity) {
+        int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+        this.capacity = size;
+        this.mask = size - 1;
+        this.times = new long[size];
+        this.messages = new String[size];
+        this.airplanes = new int[size];
+        this.resources = new int[size];
+        this.kinds = new byte[size];
+    }
+
+    public long add(long timeMillis, String message) {
+        long seq = next++;
+        int i = (int) (seq & mask);
+        times[i] = timeMillis;
+        messages[i] = message;
+        airplanes[i] = parseAirplane(message);
+        resources[i] = parseResource(message);
+        kinds[i] = (byte) classify(message).ordinal();
+        return seq;
+    }
+
+    // Plus ancienne ligne encore présente
+    public long oldest() {
+        return Math.max(0, next - capacity);
+    }
+
+    // Numéro de la prochaine ligne : nombre total de lignes reçues
+    public long next() {
+        return next;
+    }
+
+    public int size() {
+        return (int) (next - oldest());
+    }
+
+    public String format(long seq) {
+        int i = (int) (seq & mask);
+        String line = SimLogger.format(times[i], messages[i]);
+        return line.substring(0, line.length() - 1); // sans le saut de ligne
+    }
+
+    public int airplane(long seq) {
+        return airplanes[(int) (seq & mask)];
+    }
+
+    public int resource(long seq) {
+        return resources[(int) (seq & mask)];
+    }
+
+    public LogKind kind(long seq) {
+        return KINDS[kinds[(int) (seq & mask)]];
+    }
+
+    // --------- Analyse du texte ----------
+
+    // Premier « A<chiffres> » isolé : « Avion A12 ... », « Rejeu : A12 ... »
+    static int parseAirplane(String message) {
+        for (int i = message.indexOf('A'); i >= 0; i = message.indexOf('A', i + 1)) {
+            if ((i == 0 || message.charAt(i - 1) == ' ') && i + 1 < message.length()
+                    && Character.isDigit(message.charAt(i + 1))) {
+                return parseDigits(message, i + 1);
+            }
+        }
+        return -1;
+    }
+
+    static int parseResource(String message) {
+        int i = message.indexOf("piste ");
+        if (i >= 0 && i + 6 < message.length() && Character.isDigit(message.charAt(i + 6))) {
+            return parseDigits(message, i + 6);
+        }
+        i = message.indexOf("porte ");
+        if (i >= 0 && i + 6 < message.length() && Character.isDigit(message.charAt(i + 6))) {
+            return -parseDigits(message, i + 6);
+        }
+        return 0;
+    }
+
+    static LogKind classify(String message) {
+        if (message.startsWith("Création avion")) {
+            return LogKind.CREATION;
+        }
+        if (!message.startsWith("Avion ")) {
+            return LogKind.SYSTEME;
+        }
+        if (message.endsWith(" en vol.")) {
+            return LogKind.EN_VOL;
+        }
+        if (message.contains(" atterrit ")) {
+            return LogKind.ATTERRISSAGE;
+        }
+        if (message.contains(" décolle ")) {
+            return LogKind.DECOLLAGE;
+        }
+        if (message.contains(" dérouté")) {
+            return LogKind.DEROUTEMENT;
+        }
+        if (message.contains("poste éloigné")) {
+            return LogKind.POSTE_ELOIGNE;
+        }
+        if (message.contains(" à la porte ")) {
+            return LogKind.PORTE;
+        }
+        if (message.endsWith(" terminé.")) {
+            return LogKind.FIN;
+        }
+        return LogKind.SYSTEME;
+    }
+
+    private static int parseDigits(String s, int from) {
+        int n = 0;
+        for (int i = from; i < s.length() && Character.isDigit(s.charAt(i)) && n < 100_000_000; i++) {
+            n = n * 10 + (s.charAt(i) - '0');
+        }
+        return n;
+    }
+}
@@ -1,75 +1,171 @@
 package airport.gui;
 
 import airport.core.Airport;
-import airport.core.AirportObserver;
+import airport.core.AirportSnapshot;
+import airport.core.ExecutionMode;
+import airport.journal.EventJournal;
+import airport.journal.JournalReader;
+import airport.load.LoadGenerator;
+import airport.load.LoadMeter;
+import airport.load.LoadProfile;
+import airport.metrics.FlightMetrics;
+import airport.metrics.StrategyMetrics;
 import airport.model.Airplane;
+import airport.model.AirplaneState;
+import airport.model.FlightLimits;
 import airport.model.FlightType;
 import airport.model.Gate;
 import airport.model.Runway;
+import airport.schedule.ScheduleFeeder;
+import airport.schedule.ScheduleReader;
+import airport.sim.EventSimulation;
+import airport.sim.RealTimeDriver;
 import airport.sync.AirportSynchronization;
-import airport.sync.LockConditionSynchronization;
-import airport.sync.MonitorSynchronization;
-import airport.sync.SemaphoreSynchronization;
+import airport.sync.ContentionStats;
+import airport.sync.HotSwapSynchronization;
+import airport.sync.SyncStrategy;
+import airport.utils.LatencyHistogram;
+import airport.utils.RingBufferLogSink;
 import airport.utils.SimLogger;
 import javafx.application.Application;
-import javafx.application.Platform;
+import javafx.collections.ObservableList;
+import javafx.css.PseudoClass;
 import javafx.geometry.Insets;
 import javafx.scene.Scene;
 import javafx.scene.control.*;
 import javafx.scene.layout.*;
-import javafx.scene.layout.Region;
+import javafx.stage.FileChooser;
 import javafx.stage.Stage;
+import javafx.util.StringConverter;
 
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Set;
 
-public class MainApp extends Application implements AirportObserver {
+public class MainApp extends Application {
 
     private Airport airport;
     private SimLogger logger;
 
-    private TextArea logArea;
+    // Les avions écrivent dans l'anneau ; la vue le vide une fois par frame
+    // dans sa propre mémoire, qui garde les LOG_STORE_CAPACITY dernières lignes
+    private static final int LOG_RING_CAPACITY = 1 << 16;
+    private static final int LOG_STORE_CAPACITY = 1 << 20;
+    private final RingBufferLogSink logRing = new RingBufferLogSink(LOG_RING_CAPACITY);
+    private VirtualLogView logView;
+
     private ListView<String> landingQueueView;
     private ListView<String> takeoffQueueView;
     private FlowPane runwaysPane;
     private FlowPane gatesPane;
 
+    // Au-delà de ce nombre de pistes + portes, un nœud par ressource coûte
+    // trop cher : on passe d'office au rendu Canvas
+    private static final int NODE_RENDER_LIMIT = 60;
+    private final ResourceCanvas resourceCanvas = new ResourceCanvas();
+    private final StackPane resourcesHolder = new StackPane();
+    private Pane resourceNodes;
+    private CheckBox canvasBox;
+    private boolean canvasMode;
+
     private Spinner<Integer> runwaySpinner;
     private Spinner<Integer> gateSpinner;
     private Slider speedSlider;
+    private CheckBox virtualThreadsBox;
+    private CheckBox journalBox;
+    private CheckBox limitsBox;
+    private CheckBox deterministicBox;
+    private TextField seedField;
+
+    // Mode déterministe : simulation à événements discrets cadencée en temps réel
+    private RealTimeDriver driver;
+    // Programme de vols en cours d'injection (mode threads)
+    private ScheduleFeeder feeder;
+
+    // Essai de charge en boucle ouverte et ses relevés, rafraîchis chaque seconde
+    private ChoiceBox<LoadProfile> loadProfileBox;
+    private TextField loadRateField;
+    private TextField loadDurationField;
+    private final Label loadLabel = new Label();
+    private LoadGenerator load;
+    private LoadMeter loadMeter;
+    private long lastLoadSampleAt = 0;
+
+    private Stage stage;
+    private static final int JOURNAL_CAPACITY = 1 << 22;
+    private EventJournal journal;
 
     private ToggleGroup syncGroup;
 
+    // Un seul rafraîchissement par frame, quel que soit le nombre d'événements
+    private final CoalescingNotifier notifier = new CoalescingNotifier(this::refreshGui, 0);
+    private Label refreshStatsLabel;
+    private Label metricsLabel;
+
+    // Panneau de contention : cumul et activité de la dernière seconde
+    private final Label contentionLabel = new Label();
+    private ContentionStats shownContentionStats;
+    private ContentionStats.Snapshot lastContention;
+    private String contentionRate = "";
+
     private final List<Region> runwayRects = new ArrayList<>();
     private final List<Label> runwayLabels = new ArrayList<>();
     private final List<Region> gateRects = new ArrayList<>();
     private final List<Label> gateLabels = new ArrayList<>();
 
+    private static final PseudoClass OCCUPIED = PseudoClass.getPseudoClass("occupied");
+
+    // Dernier état affiché, pour ne toucher qu'aux éléments qui ont changé
+    private final List<Airplane> shownRunwayOccupants = new ArrayList<>();
+    private final List<Airplane> shownGateOccupants = new ArrayList<>();
+    private final List<Airplane> shownLandingQueue = new ArrayList<>();
+    private final List<Airplane> shownTakeoffQueue = new ArrayList<>();
+    // Version de l'instantané affiché ; -1 = tout redessiner
+    private long shownVersion = -1;
+
     @Override
     public void start(Stage stage) {
+        this.stage = stage;
         // Composants de base
-        logArea = new TextArea();
-        logArea.setEditable(false);
-
         landingQueueView = new ListView<>();
         takeoffQueueView = new ListView<>();
 
         runwaysPane = new FlowPane(5, 5);
         gatesPane = new FlowPane(5, 5);
 
-        runwaySpinner = new Spinner<>(1, 5, 2);
-        gateSpinner = new Spinner<>(1, 10, 4);
+        runwaySpinner = new Spinner<>(1, 500, 2);
+        gateSpinner = new Spinner<>(1, 2000, 4);
+        runwaySpinner.setEditable(true);
+        gateSpinner.setEditable(true);
+        runwaySpinner.setPrefWidth(80);
+        gateSpinner.setPrefWidth(80);
 
         speedSlider = new Slider(0.5, 3.0, 1.0);
         speedSlider.setShowTickLabels(true);
         speedSlider.setShowTickMarks(true);
 
-        logger = new SimLogger(logArea);
+        virtualThreadsBox = new CheckBox("Threads virtuels");
+        virtualThreadsBox.setDisable(!ExecutionMode.VIRTUEL.isSupported());
+        virtualThreadsBox.selectedProperty().addListener((obs, oldV, newV) ->
+                airport.setExecutionMode(currentExecutionMode()));
+        speedSlider.valueProperty().addListener((obs, oldV, newV) -> {
+            if (driver != null) {
+                driver.setSpeedFactor(newV.doubleValue());
+            }
+        });
+
+        logger = new SimLogger(logRing);
+        logView = new VirtualLogView(logRing, LOG_STORE_CAPACITY);
 
-        // Synchro par défaut : Moniteur
-        AirportSynchronization sync = new MonitorSynchronization(2, 4);
+        // Synchro par défaut : Moniteur, remplaçable à chaud
+        AirportSynchronization sync = new HotSwapSynchronization(SyncStrategy.MONITEUR, 2, 4);
         airport = new Airport(2, 4, sync, logger);
-        airport.setObserver(this);
+        airport.setObserver(notifier);
 
         BorderPane root = new BorderPane();
         // Fond "ciel de nuit"
@@ -81,8 +177,11 @@ public class MainApp extends Application implements AirportObserver {
         root.setBottom(createLogPanel());
 
         drawRunwaysAndGates();
+        notifier.start();
+        logView.start();
 
         Scene scene = new Scene(root, 1400, 700);
+        scene.getStylesheets().add(MainApp.class.getResource("airport.css").toExternalForm());
         stage.setScene(scene);
         stage.setTitle("Airport Management");
         stage.show();
@@ -109,36 +208,32 @@ public class MainApp extends Application implements AirportObserver {
         );
 
         // Barre principale de contrôle
-        HBox box = new HBox(12);
-        box.setPadding(new Insets(8));
-        box.setStyle(
+        String barStyle =
                 "-fx-background-color: linear-gradient(to right,#eceff1,#ffffff);" +
                 "-fx-background-radius: 10;" +
                 "-fx-border-radius: 10;" +
                 "-fx-border-color: rgba(0,0,0,0.25);" +
                 "-fx-border-width: 1;" +
-                "-fx-effect: dropshadow(gaussian, rgba(0,0,0,0.35), 12, 0, 0, 4);"
-        );
+                "-fx-effect: dropshadow(gaussian, rgba(0,0,0,0.35), 12, 0, 0, 4);";
+        HBox box = new HBox(12);
+        box.setPadding(new Insets(8));
+        box.setStyle(barStyle);
 
         // Choix de la synchro
         syncGroup = new ToggleGroup();
-        RadioButton rbMonitor = new RadioButton("Moniteur");
-        RadioButton rbSemaphore = new RadioButton("Sémaphore");
-        RadioButton rbLock = new RadioButton("ReentrantLock");
-
-        rbMonitor.setToggleGroup(syncGroup);
-        rbSemaphore.setToggleGroup(syncGroup);
-        rbLock.setToggleGroup(syncGroup);
-        rbMonitor.setSelected(true);
-
-        rbMonitor.setStyle("-fx-font-weight: bold;");
-        rbSemaphore.setStyle("-fx-font-weight: bold;");
-        rbLock.setStyle("-fx-font-weight: bold;");
+        List<RadioButton> syncButtons = new ArrayList<>();
+        for (SyncStrategy strategy : SyncStrategy.values()) {
+            RadioButton rb = new RadioButton(strategy.getLabel());
+            rb.setUserData(strategy);
+            rb.setToggleGroup(syncGroup);
+            rb.setStyle("-fx-font-weight: bold;");
+            syncButtons.add(rb);
+        }
+        syncButtons.get(0).setSelected(true);
 
         syncGroup.selectedToggleProperty().addListener((obs, oldT, newT) -> {
             if (newT != null) {
-                RadioButton rb = (RadioButton) newT;
-                restartAirport(rb.getText());
+                onSyncSelected((SyncStrategy) newT.getUserData());
             }
         });
 
@@ -179,16 +274,101 @@ public class MainApp extends Application implements AirportObserver {
         Region spacer = new Region();
         HBox.setHgrow(spacer, Priority.ALWAYS);
 
+        box.getChildren().add(new Label("Synchro :"));
+        box.getChildren().addAll(syncButtons);
         box.getChildren().addAll(
-                new Label("Synchro :"), rbMonitor, rbSemaphore, rbLock,
                 new Label("Pistes :"), runwaySpinner,
                 new Label("Portes :"), gateSpinner,
                 new Label("Vitesse :"), speedSlider,
+                virtualThreadsBox,
                 spacer,  // pousse les boutons vers la droite
                 addArrivalBtn, addDepartureBtn, stressBtn
         );
 
-        rootBox.getChildren().addAll(title, subtitle, box);
+        // Barre d'outils : journal, rejeu...
+        HBox toolsBox = new HBox(12);
+        toolsBox.setPadding(new Insets(6, 8, 6, 8));
+        toolsBox.setStyle(barStyle);
+
+        journalBox = new CheckBox("Journal binaire");
+        journalBox.selectedProperty().addListener((obs, oldV, newV) -> toggleJournal(newV));
+
+        Button replayBtn = new Button("Rejouer un journal...");
+        replayBtn.setOnAction(e -> onReplayJournal());
+
+        // Circuits d'attente limités par le carburant, postes éloignés
+        limitsBox = new CheckBox("Déroutements / postes éloignés");
+        limitsBox.selectedProperty().addListener((obs, oldV, newV) ->
+                airport.setFlightLimits(currentFlightLimits()));
+
+        // Même graine + même synchro + mêmes commandes = même séquence d'événements
+        deterministicBox = new CheckBox("Déterministe, graine :");
+        seedField = new TextField("42");
+        seedField.setPrefColumnCount(8);
+        deterministicBox.selectedProperty().addListener((obs, oldV, newV) ->
+                restartAirport((SyncStrategy) syncGroup.getSelectedToggle().getUserData()));
+
+        Button scheduleBtn = new Button("Charger un programme...");
+        scheduleBtn.setOnAction(e -> onLoadSchedule());
+
+        canvasBox = new CheckBox("Rendu Canvas");
+        canvasBox.selectedProperty().addListener((obs, oldV, newV) -> {
+            drawRunwaysAndGates();
+            refreshGui();
+        });
+
+        toolsBox.getChildren().addAll(journalBox, replayBtn, deterministicBox, seedField, scheduleBtn, limitsBox,
+                canvasBox);
+
+        refreshStatsLabel = new Label();
+        refreshStatsLabel.setStyle(
+                "-fx-text-fill: #bbdefb;" +
+                "-fx-font-size: 11px;"
+        );
+
+        metricsLabel = new Label();
+        metricsLabel.setStyle(
+                "-fx-text-fill: #bbdefb;" +
+                "-fx-font-size: 11px;"
+        );
+
+        // Essai de charge : débit constant, Poisson ou diurne pendant une durée donnée
+        HBox loadBox = new HBox(8);
+        loadBox.setPadding(new Insets(6, 8, 6, 8));
+        loadBox.setStyle(barStyle);
+        loadProfileBox = new ChoiceBox<>();
+        loadProfileBox.getItems().addAll(LoadProfile.values());
+        loadProfileBox.setValue(LoadProfile.POISSON);
+        loadProfileBox.setConverter(new StringConverter<>() {
+            @Override
+            public String toString(LoadProfile p) {
+                return p == null ? "" : p.getLabel();
+            }
+
+            @Override
+            public LoadProfile fromString(String label) {
+                return LoadProfile.parse(label);
+            }
+        });
+        loadRateField = new TextField("1800");
+        loadRateField.setPrefColumnCount(5);
+        loadDurationField = new TextField("600");
+        loadDurationField.setPrefColumnCount(5);
+        Button startLoadBtn = new Button("Lancer la charge");
+        startLoadBtn.setOnAction(e -> onStartLoad());
+        Button stopLoadBtn = new Button("Arrêter");
+        stopLoadBtn.setOnAction(e -> onStopLoad());
+        loadBox.getChildren().addAll(new Label("Charge :"), loadProfileBox,
+                loadRateField, new Label("vols/h pendant"), loadDurationField, new Label("s simulées"),
+                startLoadBtn, stopLoadBtn);
+
+        loadLabel.setStyle(
+                "-fx-text-fill: #bbdefb;" +
+                "-fx-font-size: 11px;"
+        );
+
+        rootBox.getChildren().addAll(title, subtitle, box, toolsBox, loadBox, refreshStatsLabel, metricsLabel,
+                loadLabel);
         return rootBox;
     }
 
@@ -226,9 +406,23 @@ public class MainApp extends Application implements AirportObserver {
         VBox.setVgrow(landingQueueView, Priority.ALWAYS);
         VBox.setVgrow(takeoffQueueView, Priority.ALWAYS);
 
-        grid.add(runwaysBox, 0, 0);
-        grid.add(gatesBox, 1, 0);
+        VBox contentionBox = new VBox(5, new Label("Contention"), contentionLabel);
+        contentionBox.setPadding(new Insets(10));
+        contentionBox.setStyle(
+                "-fx-background-color: rgba(255,255,255,0.90);" +
+                "-fx-background-radius: 10;"
+        );
+
+        // Nœuds par ressource ou Canvas, selon le mode (voir drawRunwaysAndGates)
+        HBox nodesBox = new HBox(15, runwaysBox, gatesBox);
+        HBox.setHgrow(runwaysBox, Priority.ALWAYS);
+        HBox.setHgrow(gatesBox, Priority.ALWAYS);
+        resourceNodes = nodesBox;
+        resourcesHolder.getChildren().setAll(resourceNodes);
+
+        grid.add(resourcesHolder, 0, 0, 2, 1);
         grid.add(queuesBox, 2, 0);
+        grid.add(contentionBox, 0, 1, 3, 1);
 
         ColumnConstraints col1 = new ColumnConstraints();
         col1.setHgrow(Priority.ALWAYS);
@@ -254,14 +448,10 @@ public class MainApp extends Application implements AirportObserver {
         Label title = new Label("Logs");
         title.setStyle("-fx-text-fill: white; -fx-font-weight: bold;");
 
-        logArea.setStyle(
-                "-fx-control-inner-background: black;" +
-                "-fx-text-fill: #00ff9d;" +
-                "-fx-font-family: Consolas, monospace;"
-        );
-
-        box.getChildren().addAll(title, logArea);
-        VBox.setVgrow(logArea, Priority.ALWAYS);
+        HBox header = new HBox(12, title, logView.getFilterBar());
+        ListView<Long> list = logView.getListView();
+        box.getChildren().addAll(header, list);
+        VBox.setVgrow(list, Priority.ALWAYS);
         return box;
     }
 
@@ -274,165 +464,459 @@ public class MainApp extends Application implements AirportObserver {
         runwayLabels.clear();
         gateRects.clear();
         gateLabels.clear();
+        shownRunwayOccupants.clear();
+        shownGateOccupants.clear();
+        shownVersion = -1;
+
+        canvasMode = canvasBox.isSelected()
+                || airport.getRunways().size() + airport.getGates().size() > NODE_RENDER_LIMIT;
+        resourcesHolder.getChildren().setAll(canvasMode ? resourceCanvas : resourceNodes);
+        if (canvasMode) {
+            return;
+        }
 
         // Pistes
         for (Runway r : airport.getRunways()) {
             Region rect = new Region();
             rect.setPrefSize(80, 30);
-            rect.setStyle(
-                    "-fx-border-color: #1b5e20;" +
-                    "-fx-border-radius: 5;" +
-                    "-fx-background-radius: 5;" +
-                    "-fx-background-color: linear-gradient(to bottom,#66bb6a,#2e7d32);"
-            );
+            rect.getStyleClass().add("runway");
             Label label = new Label("Piste " + r.getId());
             VBox vbox = new VBox(2, rect, label);
             runwaysPane.getChildren().add(vbox);
             runwayRects.add(rect);
             runwayLabels.add(label);
+            shownRunwayOccupants.add(null);
         }
 
         // Portes
         for (Gate g : airport.getGates()) {
             Region rect = new Region();
             rect.setPrefSize(60, 30);
-            rect.setStyle(
-                    "-fx-border-color: #0d47a1;" +
-                    "-fx-border-radius: 5;" +
-                    "-fx-background-radius: 5;" +
-                    "-fx-background-color: linear-gradient(to bottom,#64b5f6,#1e88e5);"
-            );
+            rect.getStyleClass().add("gate");
             Label label = new Label("Gate " + g.getId());
             VBox vbox = new VBox(2, rect, label);
             gatesPane.getChildren().add(vbox);
             gateRects.add(rect);
             gateLabels.add(label);
+            shownGateOccupants.add(null);
         }
     }
 
     // --------- Redémarrage de l'aéroport selon la synchro ----------
 
-    private void restartAirport(String syncName) {
+    // Même configuration : on garde le trafic en cours et on bascule à chaud
+    private void onSyncSelected(SyncStrategy strategy) {
+        boolean sameLayout = airport.getRunways().size() == runwaySpinner.getValue()
+                && airport.getGates().size() == gateSpinner.getValue();
+        if (driver != null || !sameLayout || !(airport.getSync() instanceof HotSwapSynchronization)) {
+            restartAirport(strategy);
+            return;
+        }
+        int moved = airport.swapSync(strategy);
+        logger.log("Synchro changée à chaud : " + strategy.getLabel() + " ("
+                + moved + " avions en attente transférés, "
+                + airport.getActivePlaneCount() + " vols en cours)");
+    }
+
+    private void restartAirport(SyncStrategy strategy) {
         int nbRunways = runwaySpinner.getValue();
         int nbGates = gateSpinner.getValue();
 
-        AirportSynchronization sync;
-        if ("Sémaphore".equals(syncName)) {
-            sync = new SemaphoreSynchronization(nbRunways, nbGates);
-        } else if ("Moniteur".equals(syncName)) {
-            sync = new MonitorSynchronization(nbRunways, nbGates);
-        } else { // ReentrantLock
-            sync = new LockConditionSynchronization(nbRunways, nbGates);
-        }
+        AirportSynchronization sync = new HotSwapSynchronization(strategy, nbRunways, nbGates);
 
+        if (driver != null) {
+            driver.stop();
+            driver = null;
+        }
+        onStopLoad();
+        load = null;
+        loadMeter = null;
+        loadLabel.setText("");
+        stopFeeder();
+        // les vols de l'ancien aéroport ne doivent pas continuer orphelins
+        airport.shutdown();
         airport = new Airport(nbRunways, nbGates, sync, logger);
-        airport.setObserver(this);
+        airport.setObserver(notifier);
+        airport.setExecutionMode(currentExecutionMode());
+        airport.setJournal(journal);
+        airport.setFlightLimits(currentFlightLimits());
+        Long seed = deterministicBox.isSelected() ? parseSeed() : null;
+        if (seed != null) {
+            driver = new RealTimeDriver(new EventSimulation(airport, seed), speedSlider.getValue());
+            driver.start();
+        }
         drawRunwaysAndGates();
         landingQueueView.getItems().clear();
         takeoffQueueView.getItems().clear();
-        logger.log("Aéroport redémarré avec " + syncName);
+        shownLandingQueue.clear();
+        shownTakeoffQueue.clear();
+        logger.log("Aéroport redémarré avec " + strategy.getLabel()
+                + (seed != null ? " (déterministe, graine " + seed + ")" : ""));
+    }
+
+    private Long parseSeed() {
+        try {
+            return Long.parseLong(seedField.getText().trim());
+        } catch (NumberFormatException e) {
+            logger.log("Graine invalide : " + seedField.getText() + ", mode déterministe désactivé.");
+            deterministicBox.setSelected(false);
+            return null;
+        }
+    }
+
+    // Lance un vol : thread dédié, ou événement à l'instant virtuel courant
+    private void launchFlight(FlightType type) {
+        if (driver == null) {
+            airport.createAndStartPlane(type, speedSlider.getValue());
+        } else if (type == FlightType.ARRIVEE) {
+            driver.submit(sim -> sim.scheduleArrival(sim.now()));
+        } else {
+            driver.submit(sim -> sim.scheduleDeparture(sim.now()));
+        }
+    }
+
+    private FlightLimits currentFlightLimits() {
+        return limitsBox.isSelected() ? FlightLimits.TYPICAL : FlightLimits.NONE;
+    }
+
+    private ExecutionMode currentExecutionMode() {
+        return virtualThreadsBox.isSelected() ? ExecutionMode.VIRTUEL : ExecutionMode.PLATEFORME;
     }
 
     // --------- Actions boutons ARRIVEE / DEPART ----------
 
     private void onAddArrival() {
-        double speedFactor = speedSlider.getValue();
-        airport.createAndStartPlane(FlightType.ARRIVEE, speedFactor);
+        launchFlight(FlightType.ARRIVEE);
     }
 
     private void onAddDeparture() {
-        double speedFactor = speedSlider.getValue();
-        airport.createAndStartPlane(FlightType.DEPART, speedFactor);
+        launchFlight(FlightType.DEPART);
     }
 
-    // --------- Callback de l'aéroport (observer) ----------
+    // --------- Programme de vols ----------
 
-    @Override
-    public void onAirportStateChanged() {
-        Platform.runLater(this::refreshGui);
+    // Le programme est lu au fil de l'eau : seul le vol suivant est en mémoire
+    private void onLoadSchedule() {
+        FileChooser chooser = new FileChooser();
+        chooser.setTitle("Charger un programme de vols (CSV ou binaire)");
+        chooser.setInitialDirectory(new File(System.getProperty("user.dir")));
+        File file = chooser.showOpenDialog(stage);
+        if (file == null) {
+            return;
+        }
+        ScheduleReader reader;
+        try {
+            reader = ScheduleReader.open(file.toPath());
+        } catch (IOException e) {
+            logger.log("Programme illisible : " + e.getMessage());
+            return;
+        }
+        logger.log("Programme chargé : " + file.getName());
+        if (driver != null) {
+            driver.submit(sim -> sim.scheduleStream(reader, sim.now()));
+        } else {
+            stopFeeder();
+            feeder = new ScheduleFeeder(airport, reader, speedSlider.getValue(), logger);
+            feeder.start();
+        }
+    }
+
+    private void onStartLoad() {
+        double rate;
+        long durationMs;
+        try {
+            rate = Double.parseDouble(loadRateField.getText().trim());
+            durationMs = (long) (Double.parseDouble(loadDurationField.getText().trim()) * 1000);
+        } catch (NumberFormatException e) {
+            logger.log("Charge invalide : débit et durée doivent être des nombres.");
+            return;
+        }
+        Long seed = deterministicBox.isSelected() ? parseSeed() : null;
+        LoadGenerator generator;
+        try {
+            generator = new LoadGenerator(loadProfileBox.getValue(), rate, durationMs, 0.5,
+                    seed != null ? seed : System.nanoTime());
+        } catch (IllegalArgumentException e) {
+            logger.log(e.getMessage());
+            return;
+        }
+        onStopLoad();
+        load = generator;
+        if (driver != null) {
+            loadMeter = new LoadMeter(airport, generator, 1.0, LoadMeter.DEFAULT_WINDOW_MS);
+            driver.submit(sim -> sim.scheduleStream(generator, sim.now()));
+        } else {
+            stopFeeder();
+            double speed = speedSlider.getValue();
+            loadMeter = new LoadMeter(airport, generator, speed, LoadMeter.DEFAULT_WINDOW_MS);
+            feeder = new ScheduleFeeder(airport, generator, speed, logger);
+            feeder.start();
+        }
+        lastLoadSampleAt = 0;
+        logger.log("Charge lancée : " + generator.getProfile().getLabel() + ", " + rate
+                + " vols/h pendant " + durationMs / 1000 + " s simulées.");
+    }
+
+    // Plus aucun vol injecté ; les relevés continuent pour suivre l'écoulement
+    private void onStopLoad() {
+        if (load == null) {
+            return;
+        }
+        load.cancel();
+        if (driver == null) {
+            stopFeeder();
+        }
+    }
+
+    private void refreshLoad() {
+        if (loadMeter == null) {
+            return;
+        }
+        long now = System.nanoTime();
+        if (now - lastLoadSampleAt < 1_000_000_000L) {
+            return;
+        }
+        lastLoadSampleAt = now;
+        LoadMeter.Sample sample = loadMeter.sample();
+        loadLabel.setText("Charge " + load.getProfile().getLabel()
+                + (load.isCancelled() ? " (arrêtée)" : "") + " : " + sample
+                + " | file max " + sample.getMaxQueued());
+    }
+
+    private void stopFeeder() {
+        if (feeder != null) {
+            feeder.stop();
+            feeder = null;
+        }
     }
 
     // --------- Rafraîchissement graphique ----------
 
     private void refreshGui() {
-        // Files d’attente
-        landingQueueView.getItems().clear();
-        for (Airplane a : airport.getLandingQueueSnapshot()) {
-            landingQueueView.getItems().add(a.getAirplaneId() + " - " + a.getAirplaneState());
+        refreshStatsLabel.setText("Rafraîchissements : " + notifier.getRefreshCount()
+                + " / notifications : " + notifier.getReceivedCount()
+                + " (fusionnées : " + notifier.getDroppedCount() + ")"
+                + " / logs perdus : " + logRing.getDroppedCount());
+        refreshMetrics();
+        refreshContention();
+        refreshLoad();
+
+        // Un seul instantané par frame, lu sans verrou : files, pistes et
+        // portes affichées correspondent au même instant
+        AirportSnapshot snap = airport.getSnapshot();
+        if (snap.getVersion() == shownVersion) {
+            return;
         }
+        shownVersion = snap.getVersion();
 
-        takeoffQueueView.getItems().clear();
-        for (Airplane a : airport.getTakeoffQueueSnapshot()) {
-            takeoffQueueView.getItems().add(a.getAirplaneId() + " - " + a.getAirplaneState());
+        // Files d’attente
+        syncQueueView(landingQueueView.getItems(), shownLandingQueue, snap.getLandingQueue());
+        syncQueueView(takeoffQueueView.getItems(), shownTakeoffQueue, snap.getTakeoffQueue());
+
+        if (canvasMode) {
+            resourceCanvas.render(captureFrame(snap));
+            return;
         }
 
         // Pistes
-        List<Runway> runways = airport.getRunways();
-        for (int i = 0; i < runways.size(); i++) {
-            Runway r = runways.get(i);
-            Region rect = runwayRects.get(i);
-            Label label = runwayLabels.get(i);
-            Airplane current = r.getCurrentAirplane();
-            if (current == null) {
-                rect.setStyle(
-                        "-fx-border-color: #1b5e20;" +
-                        "-fx-border-radius: 5;" +
-                        "-fx-background-radius: 5;" +
-                        "-fx-background-color: linear-gradient(to bottom,#66bb6a,#2e7d32);"
-                );
-                label.setText("Piste " + r.getId());
-            } else {
-                rect.setStyle(
-                        "-fx-border-color: #b71c1c;" +
-                        "-fx-border-radius: 5;" +
-                        "-fx-background-radius: 5;" +
-                        "-fx-background-color: linear-gradient(to bottom,#ef5350,#c62828);"
-                );
-                label.setText("Piste " + r.getId() + " : " + current.getAirplaneId());
+        for (int i = 0; i < snap.getRunwayCount(); i++) {
+            Airplane current = snap.getRunwayOccupant(i);
+            if (current == shownRunwayOccupants.get(i)) {
+                continue;
             }
+            shownRunwayOccupants.set(i, current);
+            runwayRects.get(i).pseudoClassStateChanged(OCCUPIED, current != null);
+            runwayLabels.get(i).setText(current == null
+                    ? "Piste " + (i + 1)
+                    : "Piste " + (i + 1) + " : " + current.getAirplaneId());
         }
 
         // Portes
-        List<Gate> gates = airport.getGates();
-        for (int i = 0; i < gates.size(); i++) {
-            Gate g = gates.get(i);
-            Region rect = gateRects.get(i);
-            Label label = gateLabels.get(i);
-            Airplane current = g.getCurrentAirplane();
-            if (current == null) {
-                rect.setStyle(
-                        "-fx-border-color: #0d47a1;" +
-                        "-fx-border-radius: 5;" +
-                        "-fx-background-radius: 5;" +
-                        "-fx-background-color: linear-gradient(to bottom,#64b5f6,#1e88e5);"
-                );
-                label.setText("Gate " + g.getId());
+        for (int i = 0; i < snap.getGateCount(); i++) {
+            Airplane current = snap.getGateOccupant(i);
+            if (current == shownGateOccupants.get(i)) {
+                continue;
+            }
+            shownGateOccupants.set(i, current);
+            gateRects.get(i).pseudoClassStateChanged(OCCUPIED, current != null);
+            gateLabels.get(i).setText(current == null
+                    ? "Gate " + (i + 1)
+                    : "Gate " + (i + 1) + " : " + current.getAirplaneId());
+        }
+    }
+
+    // Occupants des pistes et portes de l'instantané, pour le Canvas
+    private static ResourceCanvas.Frame captureFrame(AirportSnapshot snap) {
+        String[] runwayOccupants = new String[snap.getRunwayCount()];
+        for (int i = 0; i < runwayOccupants.length; i++) {
+            Airplane a = snap.getRunwayOccupant(i);
+            runwayOccupants[i] = a == null ? null : a.getAirplaneId();
+        }
+        String[] gateOccupants = new String[snap.getGateCount()];
+        for (int i = 0; i < gateOccupants.length; i++) {
+            Airplane a = snap.getGateOccupant(i);
+            gateOccupants[i] = a == null ? null : a.getAirplaneId();
+        }
+        return new ResourceCanvas.Frame(runwayOccupants, gateOccupants,
+                snap.getLandingQueueSize(), snap.getTakeoffQueueSize());
+    }
+
+    // Attentes p50/p99/max (ms simulées) et taux d'occupation, en direct
+    private void refreshMetrics() {
+        // en mode déterministe l'horloge des mesures est déjà en temps simulé
+        double speed = driver != null ? 1.0 : speedSlider.getValue();
+        StringBuilder sb = new StringBuilder();
+        for (AirplaneState state : FlightMetrics.WAIT_STATES) {
+            LatencyHistogram h = airport.getCurrentMetrics().merged(state);
+            sb.append(String.format("%s p50/p99/max : %.0f/%.0f/%.0f ms   ", state,
+                    FlightMetrics.toMs(h.valueAtPercentile(50), speed),
+                    FlightMetrics.toMs(h.valueAtPercentile(99), speed),
+                    FlightMetrics.toMs(h.getMax(), speed)));
+        }
+        StrategyMetrics m = airport.getCurrentMetrics();
+        sb.append(String.format("| pistes %.0f %%, portes %.0f %% | vol p99.9 %.0f ms"
+                        + " | déroutements %d, postes éloignés %d",
+                airport.getRunwayUtilization() * 100, airport.getGateUtilization() * 100,
+                FlightMetrics.toMs(m.flightTimes().valueAtPercentile(99.9), speed),
+                m.getDiversions(), m.getRemoteStands()));
+        metricsLabel.setText(sb.toString());
+    }
+
+    // Compteurs de contention de la stratégie courante ; débits recalculés chaque seconde
+    private void refreshContention() {
+        ContentionStats stats = airport.getContentionStats();
+        if (stats == null) {
+            shownContentionStats = null;
+            contentionLabel.setText("Stratégie non instrumentée");
+            return;
+        }
+        ContentionStats.Snapshot snap = stats.snapshot();
+        if (stats != shownContentionStats) {
+            // nouvelle stratégie : on repart de ses compteurs actuels
+            shownContentionStats = stats;
+            lastContention = snap;
+            contentionRate = "";
+        } else if (snap.getTakenAt() - lastContention.getTakenAt() >= 1_000_000_000L) {
+            ContentionStats.Snapshot d = snap.minus(lastContention);
+            double seconds = d.getTakenAt() / 1e9;
+            contentionRate = String.format("Dernière seconde : %.0f entrées/s | attente verrou moy. %.0f ns"
+                            + " | détention moy. %.0f ns | réveils %.0f/s (inutiles %.0f %%)",
+                    d.getLockEntries() / seconds, d.getMeanLockWaitNanos(), d.getMeanHoldNanos(),
+                    d.getWakeups() / seconds, d.getFutileWakeupRatio() * 100);
+            lastContention = snap;
+        }
+        contentionLabel.setText("Cumul : " + snap + (contentionRate.isEmpty() ? "" : "\n" + contentionRate));
+    }
+
+    // Met la ListView en conformité avec la file par retraits et insertions
+    // ciblés : les files ne font qu'ajouter en queue et retirer n'importe où,
+    // donc un parcours simultané des deux listes suffit.
+    private static void syncQueueView(ObservableList<String> items, List<Airplane> shown,
+                                      List<Airplane> queue) {
+        Set<Airplane> inQueue = Collections.newSetFromMap(new IdentityHashMap<>());
+        inQueue.addAll(queue);
+        int i = 0;
+        int j = 0;
+        while (j < queue.size()) {
+            Airplane a = queue.get(j);
+            if (i < shown.size() && shown.get(i) == a) {
+                i++;
+                j++;
+            } else if (i < shown.size() && !inQueue.contains(shown.get(i))) {
+                shown.remove(i);
+                items.remove(i);
             } else {
-                rect.setStyle(
-                        "-fx-border-color: #f57c00;" +
-                        "-fx-border-radius: 5;" +
-                        "-fx-background-radius: 5;" +
-                        "-fx-background-color: linear-gradient(to bottom,#ffb74d,#f57c00);"
-                );
-                label.setText("Gate " + g.getId() + " : " + current.getAirplaneId());
+                shown.add(i, a);
+                items.add(i, a.getAirplaneId() + " - " + a.getAirplaneState());
+                i++;
+                j++;
             }
         }
+        if (i < shown.size()) {
+            shown.subList(i, shown.size()).clear();
+            items.remove(i, items.size());
+        }
+    }
+
+    // --------- Journal binaire ----------
+
+    private void toggleJournal(boolean on) {
+        if (on) {
+            Path file = Path.of("airport-" + System.currentTimeMillis() + ".journal");
+            try {
+                journal = new EventJournal(file, JOURNAL_CAPACITY);
+                airport.setJournal(journal);
+                logger.log("Journal ouvert : " + file.toAbsolutePath());
+            } catch (IOException e) {
+                logger.log("Impossible d'ouvrir le journal : " + e.getMessage());
+                journalBox.setSelected(false);
+            }
+        } else {
+            closeJournal();
+        }
+    }
+
+    private void closeJournal() {
+        if (journal == null) {
+            return;
+        }
+        airport.setJournal(null);
+        try {
+            journal.close();
+            logger.log("Journal fermé : " + journal.getRecordCount() + " événements ("
+                    + journal.getDroppedCount() + " perdus).");
+        } catch (IOException e) {
+            logger.log("Erreur à la fermeture du journal : " + e.getMessage());
+        }
+        journal = null;
+    }
+
+    // Relit le journal à pleine vitesse dans le panneau de logs, hors du thread FX
+    private void onReplayJournal() {
+        FileChooser chooser = new FileChooser();
+        chooser.setTitle("Rejouer un journal");
+        chooser.setInitialDirectory(new File(System.getProperty("user.dir")));
+        File file = chooser.showOpenDialog(stage);
+        if (file == null) {
+            return;
+        }
+        Thread replay = new Thread(() -> {
+            try (JournalReader reader = new JournalReader(file.toPath())) {
+                long n = reader.replay((type, time, plane, flightType, resource, state) ->
+                        logger.log("Rejeu : A" + plane + " " + type
+                                + (resource > 0 ? " " + resource : "")
+                                + (state != null ? " " + state : "")));
+                logger.log("Rejeu terminé : " + n + " événements.");
+            } catch (IOException e) {
+                logger.log("Rejeu impossible : " + e.getMessage());
+            }
+        }, "journal-replay");
+        replay.setDaemon(true);
+        replay.start();
+    }
+
+    @Override
+    public void stop() {
+        if (driver != null) {
+            driver.stop();
+        }
+        stopFeeder();
+        airport.shutdown();
+        closeJournal();
     }
 
     public static void main(String[] args) {
         launch(args);
     }
     private void onStressTest() {
-        double speedFactor = speedSlider.getValue();
-
         int nbArrivals = 10;   // nombre d’arrivées à lancer
         int nbDepartures = 5;  // nombre de départs à lancer
 
         for (int i = 0; i < nbArrivals; i++) {
-            airport.createAndStartPlane(FlightType.ARRIVEE, speedFactor);
+            launchFlight(FlightType.ARRIVEE);
         }
         for (int i = 0; i < nbDepartures; i++) {
-            airport.createAndStartPlane(FlightType.DEPART, speedFactor);
+            launchFlight(FlightType.DEPART);
         }
 
         logger.log("Stress test lancé : " + nbArrivals + " arrivées et " +
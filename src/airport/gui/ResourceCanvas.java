@@ -0,0 +1,181 @@
+package airport.gui;
+
+import javafx.geometry.Orientation;
+import javafx.geometry.VPos;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.control.ScrollBar;
+import javafx.scene.layout.Region;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import javafx.scene.text.FontWeight;
+
+/**
+ * Rendu des pistes et portes sur un seul Canvas, pour les grands aéroports :
+ * aucun nœud par ressource, et seules les lignes visibles sont dessinées, en
+ * une passe, à partir d'un instantané de l'état (Frame). Le coût d'une frame
+ * dépend de la taille de la fenêtre, pas du nombre de ressources.
+ */
+public final class ResourceCanvas extends Region {
+
+    private static final double PAD = 8;
+    private static final double GAP = 6;
+    private static final double HEADER_H = 22;
+    private static final double CELL_H = 34;
+    private static final double RUNWAY_W = 90;
+    private static final double GATE_W = 70;
+
+    // Mêmes teintes que airport.css
+    private static final Color BACKGROUND = Color.rgb(255, 255, 255, 0.90);
+    private static final Color TEXT = Color.web("#212121");
+    private static final Color CELL_TEXT = Color.WHITE;
+    private static final Color RUNWAY_FREE = Color.web("#43a047");
+    private static final Color RUNWAY_OCCUPIED = Color.web("#e53935");
+    private static final Color GATE_FREE = Color.web("#42a5f5");
+    private static final Color GATE_OCCUPIED = Color.web("#fb8c00");
+
+    private static final Font HEADER_FONT = Font.font("System", FontWeight.BOLD, 12);
+    private static final Font CELL_FONT = Font.font("System", 10);
+
+    /** Instantané à dessiner : occupant de chaque ressource (null = libre) et taille des files. */
+    public static final class Frame {
+        static final Frame EMPTY = new Frame(new String[0], new String[0], 0, 0);
+
+        final String[] runwayOccupants;
+        final String[] gateOccupants;
+        final int landingQueue;
+        final int takeoffQueue;
+
+        public Frame(String[] runwayOccupants, String[] gateOccupants, int landingQueue, int takeoffQueue) {
+            this.runwayOccupants = runwayOccupants;
+            this.gateOccupants = gateOccupants;
+            this.landingQueue = landingQueue;
+            this.takeoffQueue = takeoffQueue;
+        }
+    }
+
+    private final Canvas canvas = new Canvas();
+    private final ScrollBar scrollBar = new ScrollBar();
+    private Frame frame = Frame.EMPTY;
+
+    public ResourceCanvas() {
+        scrollBar.setOrientation(Orientation.VERTICAL);
+        scrollBar.valueProperty().addListener((obs, oldV, newV) -> draw());
+        setOnScroll(e -> scrollBar.setValue(
+                Math.max(0, Math.min(scrollBar.getMax(), scrollBar.getValue() - e.getDeltaY()))));
+        getChildren().addAll(canvas, scrollBar);
+        setMinHeight(120);
+        setPrefHeight(260);
+    }
+
+    public void render(Frame f) {
+        frame = f;
+        updateScrollRange();
+        draw();
+    }
+
+    @Override
+    protected void layoutChildren() {
+        double w = getWidth();
+        double h = getHeight();
+        double sb = scrollBar.prefWidth(-1);
+        canvas.setWidth(Math.max(0, w - sb));
+        canvas.setHeight(h);
+        scrollBar.resizeRelocate(w - sb, 0, sb, h);
+        updateScrollRange();
+        draw();
+    }
+
+    private int perRow(double cellW) {
+        return Math.max(1, (int) ((canvas.getWidth() - 2 * PAD + GAP) / (cellW + GAP)));
+    }
+
+    private int rows(int count, double cellW) {
+        int n = perRow(cellW);
+        return (count + n - 1) / n;
+    }
+
+    private double contentHeight() {
+        return PAD + HEADER_H
+                + HEADER_H + rows(frame.runwayOccupants.length, RUNWAY_W) * (CELL_H + GAP)
+                + HEADER_H + rows(frame.gateOccupants.length, GATE_W) * (CELL_H + GAP)
+                + PAD;
+    }
+
+    private void updateScrollRange() {
+        double h = canvas.getHeight();
+        double max = Math.max(0, contentHeight() - h);
+        scrollBar.setMax(max);
+        scrollBar.setVisibleAmount(h);
+        scrollBar.setUnitIncrement(CELL_H + GAP);
+        scrollBar.setBlockIncrement(h);
+        scrollBar.setDisable(max == 0);
+        if (scrollBar.getValue() > max) {
+            scrollBar.setValue(max);
+        }
+    }
+
+    private void draw() {
+        GraphicsContext gc = canvas.getGraphicsContext2D();
+        double w = canvas.getWidth();
+        double h = canvas.getHeight();
+        gc.clearRect(0, 0, w, h);
+        gc.setFill(BACKGROUND);
+        gc.fillRect(0, 0, w, h);
+        gc.setTextBaseline(VPos.CENTER);
+
+        double y = PAD - scrollBar.getValue();
+        if (y + HEADER_H > 0) {
+            gc.setFont(HEADER_FONT);
+            gc.setFill(TEXT);
+            gc.fillText("Files : " + frame.landingQueue + " en attente d'atterrissage, "
+                    + frame.takeoffQueue + " en attente de décollage", PAD, y + HEADER_H / 2);
+        }
+        y += HEADER_H;
+        y = drawSection(gc, "Pistes", "P", frame.runwayOccupants, RUNWAY_W, RUNWAY_FREE, RUNWAY_OCCUPIED, y, h);
+        drawSection(gc, "Portes", "G", frame.gateOccupants, GATE_W, GATE_FREE, GATE_OCCUPIED, y, h);
+    }
+
+    // Dessine l'en-tête et les lignes visibles d'une section ; retourne le bas de la section
+    private double drawSection(GraphicsContext gc, String title, String prefix, String[] occupants,
+                               double cellW, Color free, Color occupied, double y, double h) {
+        if (y + HEADER_H > 0 && y < h) {
+            int busy = 0;
+            for (String o : occupants) {
+                if (o != null) {
+                    busy++;
+                }
+            }
+            gc.setFont(HEADER_FONT);
+            gc.setFill(TEXT);
+            gc.fillText(title + " : " + busy + " / " + occupants.length + " occupées", PAD, y + HEADER_H / 2);
+        }
+        y += HEADER_H;
+
+        int perRow = perRow(cellW);
+        int rows = rows(occupants.length, cellW);
+        double rowH = CELL_H + GAP;
+        int first = Math.max(0, (int) Math.floor(-y / rowH));
+        int last = Math.min(rows - 1, (int) Math.floor((h - y) / rowH));
+        gc.setFont(CELL_FONT);
+        for (int row = first; row <= last; row++) {
+            double cy = y + row * rowH;
+            for (int col = 0; col < perRow; col++) {
+                int i = row * perRow + col;
+                if (i >= occupants.length) {
+                    break;
+                }
+                double cx = PAD + col * (cellW + GAP);
+                String occupant = occupants[i];
+                gc.setFill(occupant == null ? free : occupied);
+                gc.fillRoundRect(cx, cy, cellW, CELL_H, 8, 8);
+                gc.setFill(CELL_TEXT);
+                gc.fillText(prefix + (i + 1), cx + 5, cy + CELL_H / 4 + 1);
+                if (occupant != null) {
+                    gc.fillText(occupant, cx + 5, cy + 3 * CELL_H / 4 - 1);
+                }
+            }
+        }
+        return y + rows * rowH;
+    }
+}
@@ -0,0 +1,243 @@
+package airport.gui;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+
+import airport.utils.RingBufferLogSink;
+import javafx.animation.AnimationTimer;
+import javafx.collections.ObservableListBase;
+import javafx.scene.control.CheckBox;
+import javafx.scene.control.ChoiceBox;
+import javafx.scene.control.Label;
+import javafx.scene.control.ListCell;
+import javafx.scene.control.ListView;
+import javafx.scene.control.TextField;
+import javafx.scene.layout.HBox;
+
+/**
+ * Vue des logs virtualisée : une fois par frame, le RingBufferLogSink est
+ * vidé dans un LogStore, et la ListView ne crée de cellules que pour les
+ * lignes visibles. Ses éléments ne sont que des numéros de ligne calculés à
+ * la demande : aucune donnée par ligne côté vue, même avec des millions de
+ * logs reçus.
+ *
+ * Filtre (avion, nature, ressource) : les numéros des lignes retenues sont
+ * tenus à jour au fil de l'eau ; changer de filtre reparcourt le LogStore.
+ */
+public class VirtualLogView {
+
+    private static final int MAX_BATCH = 10_000;
+    private static final double ROW_HEIGHT = 18;
+    private static final String ALL_KINDS = "Tous les événements";
+
+    private final RingBufferLogSink ring;
+    private final LogStore store;
+
+    private final ListView<Long> listView = new ListView<>();
+    private final TextField airplaneField = new TextField();
+    private final ChoiceBox<String> kindBox = new ChoiceBox<>();
+    private final TextField resourceField = new TextField();
+    private final CheckBox autoScrollBox = new CheckBox("Défilement auto");
+    private final Label countLabel = new Label();
+    private final HBox filterBar;
+
+    private Rows rows;
+
+    private final AnimationTimer timer = new AnimationTimer() {
+        @Override
+        public void handle(long now) {
+            flush();
+        }
+    };
+
+    public VirtualLogView(RingBufferLogSink ring, int capacity) {
+        this.ring = ring;
+        this.store = new LogStore(capacity);
+        this.rows = new Rows(LogFilter.NONE);
+
+        listView.getStyleClass().add("log-view");
+        listView.setFixedCellSize(ROW_HEIGHT);
+        listView.setCellFactory(v -> new ListCell<>() {
+            @Override
+            protected void updateItem(Long seq, boolean empty) {
+                super.updateItem(seq, empty);
+                setText(empty || seq == null || seq < store.oldest() ? null : store.format(seq));
+            }
+        });
+        listView.setItems(rows);
+
+        airplaneField.setPromptText("Avion (A12)");
+        airplaneField.setPrefColumnCount(7);
+        resourceField.setPromptText("Ressource (P2, G3)");
+        resourceField.setPrefColumnCount(9);
+        kindBox.getItems().add(ALL_KINDS);
+        for (LogKind k : LogKind.values()) {
+            kindBox.getItems().add(k.getLabel());
+        }
+        kindBox.getSelectionModel().selectFirst();
+        autoScrollBox.setSelected(true);
+
+        airplaneField.textProperty().addListener((obs, oldV, newV) -> applyFilter());
+        resourceField.textProperty().addListener((obs, oldV, newV) -> applyFilter());
+        kindBox.getSelectionModel().selectedIndexProperty().addListener((obs, oldV, newV) -> applyFilter());
+        autoScrollBox.selectedProperty().addListener((obs, oldV, newV) -> scrollToEndIfNeeded());
+
+        autoScrollBox.getStyleClass().add("log-filter");
+        countLabel.getStyleClass().add("log-filter");
+        filterBar = new HBox(8, airplaneField, kindBox, resourceField, autoScrollBox, countLabel);
+    }
+
+    public ListView<Long> getListView() {
+        return listView;
+    }
+
+    public HBox getFilterBar() {
+        return filterBar;
+    }
+
+    public void start() {
+        timer.start();
+    }
+
+    public void stop() {
+        timer.stop();
+    }
+
+    private void flush() {
+        long oldestBefore = store.oldest();
+        int sizeBefore = rows.size();
+        int n = ring.drain((time, message) -> rows.appended(store.add(time, message)), MAX_BATCH);
+        if (n == 0) {
+            return;
+        }
+        rows.publish(oldestBefore, sizeBefore);
+        scrollToEndIfNeeded();
+        updateCount();
+    }
+
+    private void applyFilter() {
+        int index = kindBox.getSelectionModel().getSelectedIndex();
+        LogKind kind = index <= 0 ? null : LogKind.values()[index - 1];
+        rows = new Rows(LogFilter.of(airplaneField.getText(), kind, resourceField.getText()));
+        listView.setItems(rows);
+        scrollToEndIfNeeded();
+        updateCount();
+    }
+
+    private void scrollToEndIfNeeded() {
+        if (autoScrollBox.isSelected() && rows.size() > 0) {
+            listView.scrollTo(rows.size() - 1);
+        }
+    }
+
+    private void updateCount() {
+        countLabel.setText(String.format("%,d lignes reçues, %,d affichées", store.next(), rows.size()));
+    }
+
+    /**
+     * Éléments de la ListView : les numéros des lignes visibles avec le
+     * filtre. Sans filtre, la liste est la plage [oldest, next) du LogStore ;
+     * avec filtre, un tableau circulaire des numéros retenus.
+     */
+    private final class Rows extends ObservableListBase<Long> {
+
+        private final LogFilter filter;
+        private long[] matches;
+        private int head;
+        private int tail;
+
+        Rows(LogFilter filter) {
+            this.filter = filter;
+            if (!filter.isEmpty()) {
+                matches = new long[1024];
+                for (long seq = store.oldest(); seq < store.next(); seq++) {
+                    appended(seq);
+                }
+            }
+        }
+
+        @Override
+        public Long get(int index) {
+            return filter.isEmpty() ? store.oldest() + index : matches[head + index];
+        }
+
+        @Override
+        public int size() {
+            return filter.isEmpty() ? store.size() : tail - head;
+        }
+
+        void appended(long seq) {
+            if (filter.isEmpty() || !filter.matches(store, seq)) {
+                return;
+            }
+            if (tail == matches.length) {
+                if (head > matches.length / 2) {
+                    System.arraycopy(matches, head, matches, 0, tail - head);
+                } else {
+                    long[] bigger = new long[matches.length * 2];
+                    System.arraycopy(matches, head, bigger, 0, tail - head);
+                    matches = bigger;
+                }
+                tail -= head;
+                head = 0;
+            }
+            matches[tail++] = seq;
+        }
+
+        // Signale à la ListView les lignes écrasées en tête et ajoutées en queue
+        void publish(long oldestBefore, int sizeBefore) {
+            List<Long> removed;
+            if (filter.isEmpty()) {
+                removed = range(oldestBefore, (int) (store.oldest() - oldestBefore));
+            } else {
+                int from = head;
+                while (head < tail && matches[head] < store.oldest()) {
+                    head++;
+                }
+                removed = copy(matches, from, head);
+            }
+            int added = size() - (sizeBefore - removed.size());
+            if (removed.isEmpty() && added == 0) {
+                return;
+            }
+            beginChange();
+            if (!removed.isEmpty()) {
+                nextRemove(0, removed);
+            }
+            if (added > 0) {
+                nextAdd(size() - added, size());
+            }
+            endChange();
+        }
+    }
+
+    private static List<Long> range(long from, int count) {
+        return new AbstractList<>() {
+            @Override
+            public Long get(int index) {
+                return from + index;
+            }
+
+            @Override
+            public int size() {
+                return count;
+            }
+        };
+    }
+
+    private static List<Long> copy(long[] values, int from, int to) {
+        long[] part = Arrays.copyOfRange(values, from, to);
+        return new AbstractList<>() {
+            @Override
+            public Long get(int index) {
+                return part[index];
+            }
+
+            @Override
+            public int size() {
+                return part.length;
+            }
+        };
+    }
+}
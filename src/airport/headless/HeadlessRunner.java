@@ -0,0 +1,351 @@
+package airport.headless;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.NoSuchElementException;
+
+import airport.core.Airport;
+import airport.core.ExecutionMode;
+import airport.journal.EventJournal;
+import airport.load.LoadGenerator;
+import airport.load.LoadMeter;
+import airport.load.LoadProfile;
+import airport.metrics.FlightMetrics;
+import airport.model.FlightLimits;
+import airport.model.FlightType;
+import airport.schedule.ScheduleFeeder;
+import airport.schedule.ScheduleReader;
+import airport.schedule.ScheduledFlight;
+import airport.sim.EventSimulation;
+import airport.sync.ContentionStats;
+import airport.sync.SyncStrategy;
+import airport.utils.ConsoleLogSink;
+import airport.utils.LatencyHistogram;
+import airport.utils.LogSink;
+import airport.utils.SimLogger;
+
+/**
+ * Point d'entrée sans JavaFX, pour serveurs et traitements batch.
+ *
+ * Exemple :
+ *   java -cp bin airport.headless.HeadlessRunner --runways 2 --gates 4
+ *        --sync SEMAPHORE --speed 10 --arrivals 1000 --departures 500
+ *   java -cp bin airport.headless.HeadlessRunner --des --schedule vols.aps
+ *   java -cp bin airport.headless.HeadlessRunner --des --load POISSON --rate 3000 --duration 3600
+ */
+public class HeadlessRunner {
+
+    private int runways = 2;
+    private int gates = 4;
+    private SyncStrategy strategy = SyncStrategy.MONITEUR;
+    private boolean strategyGiven = false;
+    private double speed = 1.0;
+    private int arrivals = 10;
+    private int departures = 5;
+    private long intervalMs = 0;
+    private ExecutionMode mode = ExecutionMode.PLATEFORME;
+    private boolean des = false;
+    private static final long DEFAULT_SEED = 42;
+    // En mode threads, seuls les tirages des vols sont reproductibles :
+    // l'ordre d'accès aux ressources dépend toujours de l'ordonnanceur.
+    private Long seed = null;
+    private boolean verbose = false;
+    private Path journalFile = null;
+    private int journalCapacity = 1 << 22;
+    private Path scheduleFile = null;
+    // Pas de limite par défaut : --fuel / --gate-wait les activent
+    private long fuelBudgetMs = 0;
+    private long gateWaitMs = 0;
+    private long offered = 0;
+    // Essai de charge en boucle ouverte (remplace --arrivals/--departures)
+    private LoadProfile loadProfile = null;
+    private double loadRatePerHour = 1200;
+    private long loadDurationMs = 600_000;
+    private double arrivalShare = 0.5;
+    private LoadMeter.Sample lastLoadSample = null;
+    private int loadSamples = 0;
+    private int saturatedSamples = 0;
+    private double maxAchievedPerHour = 0;
+    // Mode threads : abandon si aucun vol ne se termine pendant ce délai réel
+    private long stallTimeoutMs = 60_000;
+    private long unfinished = 0;
+
+    public static void main(String[] args) throws InterruptedException, IOException {
+        HeadlessRunner runner = new HeadlessRunner();
+        try {
+            runner.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            usage();
+            System.exit(2);
+        }
+        runner.run();
+        if (runner.unfinished > 0) {
+            System.exit(1);
+        }
+    }
+
+    private static void usage() {
+        System.err.println(
+                "Usage : HeadlessRunner [--runways N] [--gates N] [--sync MONITEUR|SEMAPHORE|REENTRANT_LOCK|CAS|SEQUENCEUR]\n" +
+                "                       [--speed X] [--arrivals N] [--departures N] [--interval ms]\n" +
+                "                       [--mode PLATEFORME|VIRTUEL] [--des] [--seed N] [--verbose]\n" +
+                "                       [--journal fichier] [--journal-capacity N] [--schedule fichier]\n" +
+                "                       [--fuel ms] [--gate-wait ms]   (défaut 0 = attente illimitée)\n" +
+                "                       [--load CONSTANT|POISSON|DIURNE] [--rate vols/h] [--duration s]\n" +
+                "                       [--arrival-share 0..1] [--stall-timeout s]");
+    }
+
+    private void parse(String[] args) {
+        for (int i = 0; i < args.length; i++) {
+            String opt = args[i];
+            if ("--des".equals(opt)) {
+                des = true;
+                continue;
+            }
+            if ("--verbose".equals(opt)) {
+                verbose = true;
+                continue;
+            }
+            if (i + 1 >= args.length) {
+                throw new IllegalArgumentException("Valeur manquante pour " + opt);
+            }
+            String value = args[++i];
+            switch (opt) {
+                case "--runways": runways = Integer.parseInt(value); break;
+                case "--gates": gates = Integer.parseInt(value); break;
+                case "--sync": strategy = SyncStrategy.parse(value); strategyGiven = true; break;
+                case "--speed": speed = Double.parseDouble(value); break;
+                case "--arrivals": arrivals = Integer.parseInt(value); break;
+                case "--departures": departures = Integer.parseInt(value); break;
+                case "--interval": intervalMs = Long.parseLong(value); break;
+                case "--mode": mode = ExecutionMode.valueOf(value.toUpperCase(Locale.ROOT)); break;
+                case "--seed": seed = Long.parseLong(value); break;
+                case "--journal": journalFile = Path.of(value); break;
+                case "--journal-capacity": journalCapacity = Integer.parseInt(value); break;
+                case "--schedule": scheduleFile = Path.of(value); break;
+                case "--fuel": fuelBudgetMs = Long.parseLong(value); break;
+                case "--gate-wait": gateWaitMs = Long.parseLong(value); break;
+                case "--load": loadProfile = LoadProfile.parse(value); break;
+                case "--rate": loadRatePerHour = Double.parseDouble(value); break;
+                case "--duration": loadDurationMs = (long) (Double.parseDouble(value) * 1000); break;
+                case "--arrival-share": arrivalShare = Double.parseDouble(value); break;
+                case "--stall-timeout": stallTimeoutMs = (long) (Double.parseDouble(value) * 1000); break;
+                default: throw new IllegalArgumentException("Option inconnue : " + opt);
+            }
+        }
+        if (runways < 1 || gates < 1 || speed <= 0 || arrivals < 0 || departures < 0
+                || loadRatePerHour <= 0 || loadDurationMs <= 0 || arrivalShare < 0 || arrivalShare > 1
+                || stallTimeoutMs <= 0) {
+            throw new IllegalArgumentException("Paramètres invalides.");
+        }
+        // la simulation à événements arbitre elle-même (priorité aux arrivées) :
+        // aucune stratégie n'y est exécutée
+        if (des && strategyGiven) {
+            throw new IllegalArgumentException("--sync est sans effet avec --des : la simulation à événements"
+                    + " applique ses propres règles (priorité aux arrivées).");
+        }
+        // comme l'IHM, qui grise la case : refusé d'emblée plutôt qu'au lancement des vols
+        if (!mode.isSupported()) {
+            throw new IllegalArgumentException("Mode " + mode + " indisponible : threads virtuels (JDK 21+) requis.");
+        }
+    }
+
+    // Répartit régulièrement les arrivées parmi les départs.
+    private FlightType typeOf(int k) {
+        int total = arrivals + departures;
+        long arrivalsBefore = (long) k * arrivals / total;
+        long arrivalsAfter = (long) (k + 1) * arrivals / total;
+        return arrivalsAfter > arrivalsBefore ? FlightType.ARRIVEE : FlightType.DEPART;
+    }
+
+    // Programme synthétique : un vol toutes les intervalMs, généré à la demande
+    private Iterator<ScheduledFlight> generatedSchedule() {
+        int total = arrivals + departures;
+        return new Iterator<ScheduledFlight>() {
+            private int k = 0;
+
+            @Override
+            public boolean hasNext() {
+                return k < total;
+            }
+
+            @Override
+            public ScheduledFlight next() {
+                if (k >= total) {
+                    throw new NoSuchElementException();
+                }
+                ScheduledFlight f = new ScheduledFlight(k * intervalMs, typeOf(k));
+                k++;
+                return f;
+            }
+        };
+    }
+
+    // Compte les vols tirés du programme, quelle que soit sa source
+    private Iterator<ScheduledFlight> counted(Iterator<ScheduledFlight> source) {
+        return new Iterator<ScheduledFlight>() {
+            @Override
+            public boolean hasNext() {
+                return source.hasNext();
+            }
+
+            @Override
+            public ScheduledFlight next() {
+                ScheduledFlight f = source.next();
+                offered++;
+                return f;
+            }
+        };
+    }
+
+    private void run() throws InterruptedException, IOException {
+        LogSink sink = verbose ? new ConsoleLogSink(System.out) : LogSink.DISCARD;
+        SimLogger logger = new SimLogger(sink);
+        Airport airport = new Airport(runways, gates, strategy.create(runways, gates), logger);
+        EventJournal journal = journalFile == null ? null : new EventJournal(journalFile, journalCapacity);
+        airport.setJournal(journal);
+        airport.setSeed(seed);
+        airport.setFlightLimits(new FlightLimits(fuelBudgetMs, gateWaitMs));
+        ScheduleReader reader = scheduleFile == null ? null : ScheduleReader.open(scheduleFile);
+        LoadGenerator load = loadProfile == null ? null : new LoadGenerator(loadProfile, loadRatePerHour,
+                loadDurationMs, arrivalShare, seed != null ? seed : DEFAULT_SEED);
+        Iterator<ScheduledFlight> schedule = counted(
+                reader != null ? reader : load != null ? load : generatedSchedule());
+        if (load != null) {
+            System.out.printf("Charge        : %s, %.0f vols/h, %.0f s simulées, %.0f %% d'arrivées%n",
+                    loadProfile.getLabel(), loadRatePerHour, loadDurationMs / 1000.0, arrivalShare * 100);
+        }
+
+        long t0 = System.nanoTime();
+        double simulatedMs;
+        if (des) {
+            EventSimulation sim = new EventSimulation(airport, seed != null ? seed : DEFAULT_SEED);
+            sim.scheduleStream(schedule, 0);
+            if (load != null) {
+                LoadMeter meter = new LoadMeter(airport, load, 1.0, LoadMeter.DEFAULT_WINDOW_MS);
+                for (long t = loadSampleMs(); t <= loadDurationMs; t += loadSampleMs()) {
+                    sim.runUntil(t);
+                    printLoad(meter.sample());
+                }
+            }
+            sim.run();
+            simulatedMs = sim.now();
+            if (reader != null) {
+                reader.close();
+            }
+        } else {
+            airport.setExecutionMode(mode);
+            ScheduleFeeder feeder = new ScheduleFeeder(airport, schedule, speed, logger);
+            LoadMeter meter = load == null ? null
+                    : new LoadMeter(airport, load, speed, LoadMeter.DEFAULT_WINDOW_MS);
+            feeder.start();
+            // relevés en direct pendant l'injection ; le débit offert ne
+            // dépend pas de l'écoulement (boucle ouverte)
+            while (meter != null && feeder.isRunning()) {
+                feeder.join(Math.max(1, (long) (loadSampleMs() / speed)));
+                if (feeder.isRunning()) {
+                    printLoad(meter.sample());
+                }
+            }
+            feeder.join();
+            awaitFlights(airport, feeder.getLaunchedCount());
+            simulatedMs = (System.nanoTime() - t0) / 1e6 * speed;
+        }
+        double wallMs = (System.nanoTime() - t0) / 1e6;
+
+        report(airport, wallMs, simulatedMs);
+        if (journal != null) {
+            airport.setJournal(null);
+            journal.close();
+            System.out.printf("Journal       : %,d événements dans %s (%,d perdus)%n",
+                    journal.getRecordCount(), journalFile, journal.getDroppedCount());
+        }
+    }
+
+    // Les vols ne sont pas conservés : on attend que tous soient comptés
+    // terminés. Un vol bloqué, ou dont le thread est mort avant d'être compté,
+    // ne doit pas faire tourner le traitement sans fin : au-delà de
+    // stallTimeoutMs sans aucun vol terminé, on abandonne et on les signale.
+    private void awaitFlights(Airport airport, long launched) throws InterruptedException {
+        LatencyHistogram done = airport.getCurrentMetrics().flightTimes();
+        long count = done.getCount();
+        long lastProgress = System.nanoTime();
+        while (count < launched) {
+            Thread.sleep(5);
+            long c = done.getCount();
+            if (c != count) {
+                count = c;
+                lastProgress = System.nanoTime();
+            } else if (System.nanoTime() - lastProgress > stallTimeoutMs * 1_000_000L) {
+                unfinished = launched - count;
+                List<String> stuck = airport.getActivePlaneIds();
+                System.err.printf("Aucun vol terminé depuis %.1f s : %d vol(s) jamais terminé(s),"
+                                + " dont %d encore en cours %s%s%n",
+                        stallTimeoutMs / 1000.0, unfinished, stuck.size(),
+                        stuck.subList(0, Math.min(20, stuck.size())), stuck.size() > 20 ? "..." : "");
+                airport.shutdown();
+                return;
+            }
+        }
+    }
+
+    // Une vingtaine de relevés par essai, au plus un par seconde simulée
+    private long loadSampleMs() {
+        return Math.max(1000, loadDurationMs / 20);
+    }
+
+    private void printLoad(LoadMeter.Sample sample) {
+        System.out.println("Charge        : " + sample);
+        lastLoadSample = sample;
+        loadSamples++;
+        if (sample.isSaturated()) {
+            saturatedSamples++;
+        }
+        maxAchievedPerHour = Math.max(maxAchievedPerHour, sample.getAchievedPerHour());
+    }
+
+    private void report(Airport airport, double wallMs, double simulatedMs) {
+        LatencyHistogram latencies = airport.getCurrentMetrics().flightTimes();
+        long n = latencies.getCount();
+        // En mode threads l'horloge est réelle : on ramène en ms simulées.
+        double toSimSpeed = des ? 1.0 : speed;
+
+        System.out.println("=== Résumé de la simulation ===");
+        System.out.printf("Configuration : %d pistes, %d portes, synchro %s, %s%n",
+                runways, gates, des ? "de la simulation (priorité aux arrivées)" : strategy.getLabel(),
+                des ? "événements discrets (graine " + airport.getSeed() + ")"
+                    : "threads " + mode + ", vitesse " + speed + "x"
+                        + (seed != null ? ", graine " + seed : ""));
+        System.out.printf("Limites       : %s%n", airport.getFlightLimits());
+        System.out.printf("Vols terminés : %d / %d (%s)%n", n, offered,
+                scheduleFile != null ? "programme " + scheduleFile
+                        : loadProfile != null ? "charge " + loadProfile.getLabel()
+                        : arrivals + " arrivées, " + departures + " départs");
+        if (lastLoadSample != null) {
+            System.out.printf("Saturation    : %d / %d relevés saturés, débit écoulé max %.0f vols/h,"
+                            + " file max %d avions%n",
+                    saturatedSamples, loadSamples, maxAchievedPerHour, lastLoadSample.getMaxQueued());
+        }
+        System.out.printf("Durée         : %.1f ms réelles, %.1f s simulées%n", wallMs, simulatedMs / 1000);
+        System.out.printf("Débit         : %.1f vols/s réels, %.1f vols/h simulées%n",
+                n / (wallMs / 1000), simulatedMs > 0 ? n / (simulatedMs / 3_600_000) : 0.0);
+        if (n > 0) {
+            System.out.printf("Latence vol (ms simulées) : p50 %.0f | p90 %.0f | p99 %.0f | max %.0f%n",
+                    FlightMetrics.toMs(latencies.valueAtPercentile(50), toSimSpeed),
+                    FlightMetrics.toMs(latencies.valueAtPercentile(90), toSimSpeed),
+                    FlightMetrics.toMs(latencies.valueAtPercentile(99), toSimSpeed),
+                    FlightMetrics.toMs(latencies.getMax(), toSimSpeed));
+        }
+        System.out.printf("Utilisation   : pistes %.1f %%, portes %.1f %%%n",
+                airport.getRunwayUtilization() * 100, airport.getGateUtilization() * 100);
+        ContentionStats contention = airport.getContentionStats();
+        if (contention != null && contention.snapshot().getLockEntries() > 0) {
+            System.out.printf("Contention    : %s%n", contention.snapshot());
+        }
+        System.out.print(airport.getMetrics().report(toSimSpeed));
+    }
+}
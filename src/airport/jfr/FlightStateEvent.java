@@ -0,0 +1,55 @@
+package airport.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+import airport.model.Airplane;
+import airport.model.AirplaneState;
+
+/**
+ * Événement JFR émis à chaque changement d'état d'un vol, avec la durée
+ * passée dans l'état quitté (horloge de l'Airport : simulée en mode
+ * déterministe).
+ */
+@Name("airport.FlightState")
+@Label("Changement d'état de vol")
+@Category({ "Aéroport", "Vols" })
+@Description("Transition d'un avion vers un nouvel état")
+@StackTrace(false)
+public class FlightStateEvent extends Event {
+
+    @Label("Avion")
+    private String airplaneId;
+
+    @Label("Type de vol")
+    private String flightType;
+
+    @Label("État quitté")
+    private String previousState;
+
+    @Label("Nouvel état")
+    private String newState;
+
+    @Label("Durée de l'état quitté")
+    @Timespan(Timespan.NANOSECONDS)
+    private long previousStateDuration;
+
+    // previousNanos < 0 : durée inconnue (premier état du vol)
+    public static void emit(Airplane a, AirplaneState previous, AirplaneState next, long previousNanos) {
+        FlightStateEvent e = new FlightStateEvent();
+        if (!e.isEnabled()) {
+            return;
+        }
+        e.airplaneId = a.getAirplaneId();
+        e.flightType = a.getType().name();
+        e.previousState = previous.name();
+        e.newState = next.name();
+        e.previousStateDuration = previousNanos < 0 ? Long.MIN_VALUE : previousNanos;
+        e.commit();
+    }
+}
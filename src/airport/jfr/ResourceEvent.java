@@ -0,0 +1,61 @@
+package airport.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+import airport.model.Airplane;
+
+/**
+ * Événement JFR d'occupation ou de libération d'une piste ou d'une porte.
+ * La durée est l'attente avant l'occupation, ou le temps d'occupation à la
+ * libération.
+ */
+@Name("airport.Resource")
+@Label("Piste / porte")
+@Category({ "Aéroport", "Ressources" })
+@Description("Occupation ou libération d'une piste ou d'une porte par un avion")
+@StackTrace(false)
+public class ResourceEvent extends Event {
+
+    public static final String RUNWAY = "piste";
+    public static final String GATE = "porte";
+
+    public static final String OCCUPY = "occupation";
+    public static final String FREE = "libération";
+
+    @Label("Avion")
+    private String airplaneId;
+
+    @Label("Ressource")
+    private String resourceType;
+
+    @Label("Numéro")
+    private int resourceId;
+
+    @Label("Action")
+    private String action;
+
+    @Label("Attente ou occupation")
+    @Description("Attente avant l'occupation, ou durée d'occupation à la libération")
+    @Timespan(Timespan.NANOSECONDS)
+    private long elapsed;
+
+    // nanos < 0 : durée inconnue
+    public static void emit(Airplane a, String resourceType, int resourceId, String action, long nanos) {
+        ResourceEvent e = new ResourceEvent();
+        if (!e.isEnabled()) {
+            return;
+        }
+        e.airplaneId = a == null ? null : a.getAirplaneId();
+        e.resourceType = resourceType;
+        e.resourceId = resourceId;
+        e.action = action;
+        e.elapsed = nanos < 0 ? Long.MIN_VALUE : nanos;
+        e.commit();
+    }
+}
@@ -0,0 +1,75 @@
+package airport.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+import airport.model.Airplane;
+
+/**
+ * Événement JFR couvrant une demande bloquante de piste ou de porte, de la
+ * demande à l'occupation : sa durée est le temps d'attente.
+ *
+ * Il est émis par l'avion lui-même (les stratégies ne connaissent pas
+ * toujours l'avion ni la ressource attribuée) : l'identifiant de l'avion et
+ * celui de la piste ou de la porte sont donc justes quel que soit le thread
+ * qui l'exécute.
+ */
+@Name("airport.SyncAcquire")
+@Label("Attente de synchronisation")
+@Category({ "Aéroport", "Synchronisation" })
+@Description("Demande bloquante d'une piste ou d'une porte")
+public class SyncAcquireEvent extends Event {
+
+    public static final String LANDING = "piste (atterrissage)";
+    public static final String TAKEOFF = "piste (décollage)";
+    public static final String GATE = "porte";
+
+    private static final EventType TYPE = EventType.getEventType(SyncAcquireEvent.class);
+
+    @Label("Avion")
+    private String airplaneId;
+
+    @Label("Stratégie")
+    private String strategy;
+
+    @Label("Ressource")
+    private String resource;
+
+    @Label("Numéro de la ressource")
+    @Description("Piste ou porte occupée ; -1 si elle n'a pas été obtenue")
+    private int resourceId;
+
+    @Label("Obtenue")
+    @Description("false si l'échéance est passée avant d'obtenir la ressource")
+    private boolean granted;
+
+    // À appeler avant de demander la ressource ; null (rien d'alloué) si
+    // l'événement n'est pas activé
+    public static SyncAcquireEvent start() {
+        if (!TYPE.isEnabled()) {
+            return null;
+        }
+        SyncAcquireEvent e = new SyncAcquireEvent();
+        e.begin();
+        return e;
+    }
+
+    // Ressource occupée (ou échéance) : l'événement n'est écrit que s'il
+    // dépasse le seuil de l'enregistrement
+    public void done(Airplane a, String strategy, String resource, int resourceId, boolean granted) {
+        end();
+        if (!shouldCommit()) {
+            return;
+        }
+        this.airplaneId = a.getAirplaneId();
+        this.strategy = strategy;
+        this.resource = resource;
+        this.resourceId = resourceId;
+        this.granted = granted;
+        commit();
+    }
+}
@@ -0,0 +1,96 @@
+package airport.journal;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.AtomicLong;
+
+import airport.model.AirplaneState;
+import airport.model.FlightType;
+
+/**
+ * Journal binaire en ajout seul, projeté en mémoire (MappedByteBuffer).
+ *
+ * Enregistrements de taille fixe (32 octets) après un en-tête de 32 octets :
+ *   0  long  instant (ns, horloge de l'Airport)
+ *   8  int   numéro d'avion (A12 → 12)
+ *   12 int   ressource (numéro de piste/porte, 0 sinon)
+ *   16 int   état (ordinal + 1, 0 sinon)
+ *   20 int   type de vol (ordinal + 1)
+ *   24 int   réservé
+ *   28 int   type d'événement (code), écrit en dernier avec une écriture
+ *            « release » : un lecteur qui le voit non nul voit tout le reste.
+ *
+ * Un écrivain réserve sa case avec un seul getAndIncrement puis écrit en
+ * accès absolu : aucun verrou, aucune allocation, jamais de blocage. Le
+ * fichier a une capacité fixe ; au-delà les événements sont comptés perdus.
+ */
+public class EventJournal implements AutoCloseable {
+
+    static final int MAGIC = 0x41504A31; // "APJ1"
+    static final int HEADER_SIZE = 32;
+    static final int RECORD_SIZE = 32;
+
+    static final VarHandle INT_VIEW =
+            MethodHandles.byteBufferViewVarHandle(int[].class, ByteOrder.nativeOrder());
+
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final long capacity;
+
+    private final AtomicLong next = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+
+    public EventJournal(Path file, int capacityRecords) throws IOException {
+        if (capacityRecords <= 0 || capacityRecords > (Integer.MAX_VALUE - HEADER_SIZE) / RECORD_SIZE) {
+            throw new IllegalArgumentException("Capacité de journal invalide : " + capacityRecords);
+        }
+        this.capacity = capacityRecords;
+        this.channel = FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0,
+                HEADER_SIZE + (long) capacityRecords * RECORD_SIZE);
+        buffer.order(ByteOrder.nativeOrder());
+        buffer.putInt(0, MAGIC);
+        buffer.putInt(4, RECORD_SIZE);
+        buffer.putLong(8, 0);
+    }
+
+    public void append(JournalEventType type, long timeNanos, int airplane, FlightType flightType,
+                       int resource, AirplaneState state) {
+        long n = next.getAndIncrement();
+        if (n >= capacity) {
+            dropped.incrementAndGet();
+            return;
+        }
+        int off = HEADER_SIZE + (int) (n * RECORD_SIZE);
+        buffer.putLong(off, timeNanos);
+        buffer.putInt(off + 8, airplane);
+        buffer.putInt(off + 12, resource);
+        buffer.putInt(off + 16, state == null ? 0 : state.ordinal() + 1);
+        buffer.putInt(off + 20, flightType == null ? 0 : flightType.ordinal() + 1);
+        INT_VIEW.setRelease(buffer, off + 28, type.code());
+    }
+
+    public long getRecordCount() {
+        return Math.min(next.get(), capacity);
+    }
+
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    // Écrit le nombre d'enregistrements dans l'en-tête et force l'écriture disque.
+    @Override
+    public void close() throws IOException {
+        buffer.putLong(8, getRecordCount());
+        buffer.force();
+        channel.close();
+    }
+}
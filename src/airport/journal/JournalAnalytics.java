@@ -0,0 +1,105 @@
+package airport.journal;
+
+import java.util.Arrays;
+
+import airport.metrics.FlightMetrics;
+import airport.metrics.StrategyMetrics;
+import airport.model.AirplaneState;
+import airport.model.FlightType;
+
+/**
+ * Rejoue un journal dans des statistiques : nombre d'événements par type,
+ * temps par phase (mêmes histogrammes que FlightMetrics) et temps
+ * d'occupation des pistes et portes.
+ */
+public class JournalAnalytics implements JournalListener {
+
+    private final long[] countsByType = new long[JournalEventType.values().length];
+
+    private final FlightMetrics metrics = new FlightMetrics();
+    private final StrategyMetrics phases = metrics.forStrategy("journal");
+
+    // Par numéro d'avion : dernier état connu et instant d'entrée
+    private AirplaneState[] lastState = new AirplaneState[1024];
+    private long[] stateSince = new long[1024];
+
+    private long[] runwaySince = new long[16];
+    private long[] gateSince = new long[16];
+    private long runwayBusyNanos = 0;
+    private long gateBusyNanos = 0;
+    private int maxRunway = 0;
+    private int maxGate = 0;
+
+    private long firstTime = Long.MAX_VALUE;
+    private long lastTime = Long.MIN_VALUE;
+
+    @Override
+    public void onEvent(JournalEventType type, long timeNanos, int airplane, FlightType flightType,
+                        int resource, AirplaneState state) {
+        countsByType[type.ordinal()]++;
+        firstTime = Math.min(firstTime, timeNanos);
+        lastTime = Math.max(lastTime, timeNanos);
+        switch (type) {
+            case STATE:
+                onState(timeNanos, airplane, flightType, state);
+                break;
+            case RUNWAY_OCCUPY:
+                runwaySince = ensure(runwaySince, resource);
+                runwaySince[resource] = timeNanos;
+                maxRunway = Math.max(maxRunway, resource);
+                break;
+            case RUNWAY_FREE:
+                runwaySince = ensure(runwaySince, resource);
+                runwayBusyNanos += timeNanos - runwaySince[resource];
+                break;
+            case GATE_OCCUPY:
+                gateSince = ensure(gateSince, resource);
+                gateSince[resource] = timeNanos;
+                maxGate = Math.max(maxGate, resource);
+                break;
+            case GATE_FREE:
+                gateSince = ensure(gateSince, resource);
+                gateBusyNanos += timeNanos - gateSince[resource];
+                break;
+            default:
+                break;
+        }
+    }
+
+    private void onState(long timeNanos, int airplane, FlightType flightType, AirplaneState state) {
+        if (airplane < 0 || flightType == null) {
+            return;
+        }
+        if (airplane >= lastState.length) {
+            int size = Math.max(airplane + 1, lastState.length * 2);
+            lastState = Arrays.copyOf(lastState, size);
+            stateSince = Arrays.copyOf(stateSince, size);
+        }
+        AirplaneState previous = lastState[airplane];
+        if (previous != null && previous != state) {
+            phases.record(flightType, previous, timeNanos - stateSince[airplane]);
+        }
+        lastState[airplane] = state == AirplaneState.TERMINE ? null : state;
+        stateSince[airplane] = timeNanos;
+    }
+
+    private static long[] ensure(long[] a, int index) {
+        return index < a.length ? a : Arrays.copyOf(a, Math.max(index + 1, a.length * 2));
+    }
+
+    public String report(double speedFactor) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("--- Événements ---\n");
+        for (JournalEventType t : JournalEventType.values()) {
+            sb.append(String.format("%-21s %,d%n", t, countsByType[t.ordinal()]));
+        }
+        long elapsed = lastTime - firstTime;
+        if (elapsed > 0) {
+            sb.append(String.format("Utilisation : pistes %.1f %%, portes %.1f %%%n",
+                    maxRunway == 0 ? 0.0 : 100.0 * runwayBusyNanos / ((double) elapsed * maxRunway),
+                    maxGate == 0 ? 0.0 : 100.0 * gateBusyNanos / ((double) elapsed * maxGate)));
+        }
+        sb.append(metrics.report(speedFactor));
+        return sb.toString();
+    }
+}
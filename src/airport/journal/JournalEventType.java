@@ -0,0 +1,24 @@
+package airport.journal;
+
+public enum JournalEventType {
+    STATE,
+    LANDING_QUEUE_ADD,
+    LANDING_QUEUE_REMOVE,
+    TAKEOFF_QUEUE_ADD,
+    TAKEOFF_QUEUE_REMOVE,
+    RUNWAY_OCCUPY,
+    RUNWAY_FREE,
+    GATE_OCCUPY,
+    GATE_FREE;
+
+    private static final JournalEventType[] VALUES = values();
+
+    static JournalEventType fromCode(int code) {
+        return VALUES[code - 1];
+    }
+
+    // 0 est réservé : il marque un enregistrement non encore publié
+    int code() {
+        return ordinal() + 1;
+    }
+}
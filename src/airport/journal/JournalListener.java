@@ -0,0 +1,11 @@
+package airport.journal;
+
+import airport.model.AirplaneState;
+import airport.model.FlightType;
+
+// Reçoit les événements relus ; state vaut null hors événements STATE.
+public interface JournalListener {
+
+    void onEvent(JournalEventType type, long timeNanos, int airplane, FlightType flightType,
+                 int resource, AirplaneState state);
+}
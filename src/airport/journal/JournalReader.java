@@ -0,0 +1,64 @@
+package airport.journal;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import airport.model.AirplaneState;
+import airport.model.FlightType;
+
+// Relit un journal à pleine vitesse, sans allocation par événement.
+public class JournalReader implements AutoCloseable {
+
+    private static final AirplaneState[] STATES = AirplaneState.values();
+    private static final FlightType[] FLIGHT_TYPES = FlightType.values();
+
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final long maxRecords;
+
+    public JournalReader(Path file) throws IOException {
+        this.channel = FileChannel.open(file, StandardOpenOption.READ);
+        this.buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        buffer.order(ByteOrder.nativeOrder());
+        if (channel.size() < EventJournal.HEADER_SIZE || buffer.getInt(0) != EventJournal.MAGIC) {
+            channel.close();
+            throw new IOException("Pas un journal d'aéroport : " + file);
+        }
+        this.maxRecords = (channel.size() - EventJournal.HEADER_SIZE) / EventJournal.RECORD_SIZE;
+    }
+
+    // Nombre d'enregistrements déclaré à la fermeture (0 si le journal est encore ouvert)
+    public long getDeclaredCount() {
+        return buffer.getLong(8);
+    }
+
+    // S'arrête au premier enregistrement non publié ; renvoie le nombre d'événements relus.
+    public long replay(JournalListener listener) {
+        long n = 0;
+        for (; n < maxRecords; n++) {
+            int off = EventJournal.HEADER_SIZE + (int) (n * EventJournal.RECORD_SIZE);
+            int code = (int) EventJournal.INT_VIEW.getAcquire(buffer, off + 28);
+            if (code == 0) {
+                break;
+            }
+            int state = buffer.getInt(off + 16);
+            int flightType = buffer.getInt(off + 20);
+            listener.onEvent(JournalEventType.fromCode(code),
+                    buffer.getLong(off),
+                    buffer.getInt(off + 8),
+                    flightType == 0 ? null : FLIGHT_TYPES[flightType - 1],
+                    buffer.getInt(off + 12),
+                    state == 0 ? null : STATES[state - 1]);
+        }
+        return n;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
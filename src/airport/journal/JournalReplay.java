@@ -0,0 +1,28 @@
+package airport.journal;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Relit un journal binaire à pleine vitesse et affiche les statistiques.
+ *
+ * Exemple : java -cp bin airport.journal.JournalReplay run.journal [vitesse]
+ */
+public class JournalReplay {
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("Usage : JournalReplay <fichier> [facteur de vitesse du run]");
+            System.exit(2);
+        }
+        double speed = args.length > 1 ? Double.parseDouble(args[1]) : 1.0;
+        JournalAnalytics analytics = new JournalAnalytics();
+        try (JournalReader reader = new JournalReader(Path.of(args[0]))) {
+            long t0 = System.nanoTime();
+            long n = reader.replay(analytics);
+            double seconds = (System.nanoTime() - t0) / 1e9;
+            System.out.printf("%,d événements relus en %.3f s (%,.0f événements/s)%n", n, seconds, n / seconds);
+        }
+        System.out.print(analytics.report(speed));
+    }
+}
@@ -0,0 +1,143 @@
+package airport.load;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.SplittableRandom;
+
+import airport.model.FlightType;
+import airport.schedule.ScheduledFlight;
+
+/**
+ * Générateur de charge en boucle ouverte : produit à la demande un programme
+ * de vols au débit demandé (mouvements par heure simulée) pendant la durée
+ * demandée, sans tenir compte de la vitesse à laquelle l'aéroport les
+ * écoule. Se branche comme n'importe quel programme sur un ScheduleFeeder
+ * (threads) ou sur EventSimulation.scheduleStream (événements discrets).
+ *
+ * Profil DIURNE : la durée de l'essai représente une journée, avec deux
+ * pointes (au quart et aux trois quarts) et un creux au milieu ; le débit
+ * moyen sur la journée reste ratePerHour. Tirage par amincissement
+ * (Lewis-Shedler) d'un Poisson au débit de pointe.
+ */
+public final class LoadGenerator implements Iterator<ScheduledFlight> {
+
+    // Écart relatif entre pointe et débit moyen (profil DIURNE)
+    public static final double DIURNAL_AMPLITUDE = 0.8;
+
+    private static final double MS_PER_HOUR = 3_600_000.0;
+
+    private final LoadProfile profile;
+    private final double ratePerHour;
+    private final long durationMs;
+    private final double arrivalShare;
+    private final SplittableRandom random;
+
+    private double timeMs = 0;
+    private long generated = 0;
+    private ScheduledFlight next;
+    // Arrêt demandé depuis un autre thread (GUI) : plus aucun vol
+    private volatile boolean cancelled = false;
+
+    /**
+     * @param ratePerHour  débit moyen offert, en vols par heure simulée
+     * @param durationMs   durée de l'injection, en ms simulées
+     * @param arrivalShare part des arrivées (0 à 1), le reste en départs
+     */
+    public LoadGenerator(LoadProfile profile, double ratePerHour, long durationMs,
+                         double arrivalShare, long seed) {
+        if (ratePerHour <= 0 || durationMs <= 0 || arrivalShare < 0 || arrivalShare > 1) {
+            throw new IllegalArgumentException("Paramètres de charge invalides.");
+        }
+        this.profile = profile;
+        this.ratePerHour = ratePerHour;
+        this.durationMs = durationMs;
+        this.arrivalShare = arrivalShare;
+        this.random = new SplittableRandom(seed);
+        this.next = advance();
+    }
+
+    public LoadProfile getProfile() {
+        return profile;
+    }
+
+    public double getRatePerHour() {
+        return ratePerHour;
+    }
+
+    public long getDurationMs() {
+        return durationMs;
+    }
+
+    // Débit offert visé à l'instant t (vols par heure simulée)
+    public double rateAt(long tMs) {
+        if (tMs < 0 || tMs >= durationMs) {
+            return 0;
+        }
+        if (profile != LoadProfile.DIURNE) {
+            return ratePerHour;
+        }
+        return ratePerHour * (1 - DIURNAL_AMPLITUDE * Math.cos(4 * Math.PI * tMs / durationMs));
+    }
+
+    public void cancel() {
+        cancelled = true;
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return next != null && !cancelled;
+    }
+
+    @Override
+    public ScheduledFlight next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        ScheduledFlight f = next;
+        next = advance();
+        return f;
+    }
+
+    // Vol suivant, ou null une fois la durée écoulée
+    private ScheduledFlight advance() {
+        double meanGapMs = MS_PER_HOUR / ratePerHour;
+        switch (profile) {
+            case CONSTANT:
+                timeMs = generated * meanGapMs;
+                break;
+            case POISSON:
+                timeMs += exponential(meanGapMs);
+                break;
+            case DIURNE:
+                double peak = ratePerHour * (1 + DIURNAL_AMPLITUDE);
+                do {
+                    timeMs += exponential(MS_PER_HOUR / peak);
+                } while (timeMs < durationMs && random.nextDouble() * peak > rateAt((long) timeMs));
+                break;
+            default:
+                throw new IllegalStateException(profile.name());
+        }
+        if (timeMs >= durationMs) {
+            return null;
+        }
+        return new ScheduledFlight((long) timeMs, typeOf(generated++));
+    }
+
+    private double exponential(double meanMs) {
+        return -meanMs * Math.log(1 - random.nextDouble());
+    }
+
+    // Profil régulier : arrivées réparties régulièrement ; sinon tirage
+    private FlightType typeOf(long k) {
+        if (profile == LoadProfile.CONSTANT) {
+            long before = (long) Math.floor(k * arrivalShare);
+            long after = (long) Math.floor((k + 1) * arrivalShare);
+            return after > before ? FlightType.ARRIVEE : FlightType.DEPART;
+        }
+        return random.nextDouble() < arrivalShare ? FlightType.ARRIVEE : FlightType.DEPART;
+    }
+}
@@ -0,0 +1,153 @@
+package airport.load;
+
+import java.util.ArrayDeque;
+
+import airport.core.Airport;
+
+/**
+ * Relevés en direct d'un essai de charge : débit offert (vols créés) contre
+ * débit écoulé (mouvements de piste), en vols par heure simulée sur une
+ * fenêtre glissante, et croissance des files d'attente. Une file qui grandit
+ * alors que le débit écoulé plafonne sous le débit offert signale la
+ * saturation de la configuration (pistes, portes, synchro).
+ *
+ * Le temps est celui de l'Airport ramené en ms simulées (speedFactor = 1 en
+ * mode à événements discrets). Les compteurs partent de zéro à la création.
+ */
+public class LoadMeter {
+
+    public static final long DEFAULT_WINDOW_MS = 60_000;
+
+    // Débit écoulé sous ce ratio du débit offert, file croissante : saturation
+    private static final double SATURATION_RATIO = 0.9;
+
+    private final Airport airport;
+    private final LoadGenerator generator;
+    private final double speedFactor;
+    private final long windowMs;
+
+    private final long originNanos;
+    private final long createdAtStart;
+    private final long movementsAtStart;
+
+    // Points récents : instant, vols offerts, mouvements, avions en file
+    private final ArrayDeque<long[]> points = new ArrayDeque<>();
+    private int maxQueued = 0;
+
+    public LoadMeter(Airport airport, LoadGenerator generator, double speedFactor, long windowMs) {
+        this.airport = airport;
+        this.generator = generator;
+        this.speedFactor = speedFactor;
+        this.windowMs = windowMs;
+        this.originNanos = airport.nanoTime();
+        this.createdAtStart = airport.getCreatedPlaneCount();
+        this.movementsAtStart = airport.getRunwayMovements();
+        points.add(new long[] { 0, 0, 0, queued() });
+    }
+
+    private int queued() {
+        return airport.getLandingQueueSize() + airport.getTakeoffQueueSize();
+    }
+
+    // Temps simulé écoulé depuis le début de l'essai
+    public long elapsedMs() {
+        return (long) ((airport.nanoTime() - originNanos) / 1e6 * speedFactor);
+    }
+
+    public Sample sample() {
+        long now = elapsedMs();
+        long offered = airport.getCreatedPlaneCount() - createdAtStart;
+        long movements = airport.getRunwayMovements() - movementsAtStart;
+        int queued = queued();
+        maxQueued = Math.max(maxQueued, queued);
+
+        // on garde le dernier point antérieur à la fenêtre, pour la couvrir entièrement
+        long[] from = points.pollFirst();
+        while (!points.isEmpty() && now - points.peekFirst()[0] >= windowMs) {
+            from = points.pollFirst();
+        }
+        points.addFirst(from);
+        points.addLast(new long[] { now, offered, movements, queued });
+
+        double hours = Math.max(1, now - from[0]) / 3_600_000.0;
+        double minutes = hours * 60;
+        return new Sample(now, generator == null ? 0 : generator.rateAt(now),
+                (offered - from[1]) / hours, (movements - from[2]) / hours,
+                offered, movements, queued, (queued - from[3]) / minutes, maxQueued);
+    }
+
+    /** Relevé à un instant donné ; débits sur la fenêtre glissante, en vols/h simulées. */
+    public static final class Sample {
+        private final long timeMs;
+        private final double targetPerHour;
+        private final double offeredPerHour;
+        private final double achievedPerHour;
+        private final long offered;
+        private final long movements;
+        private final int queued;
+        private final double queueGrowthPerMin;
+        private final int maxQueued;
+
+        Sample(long timeMs, double targetPerHour, double offeredPerHour, double achievedPerHour,
+               long offered, long movements, int queued, double queueGrowthPerMin, int maxQueued) {
+            this.timeMs = timeMs;
+            this.targetPerHour = targetPerHour;
+            this.offeredPerHour = offeredPerHour;
+            this.achievedPerHour = achievedPerHour;
+            this.offered = offered;
+            this.movements = movements;
+            this.queued = queued;
+            this.queueGrowthPerMin = queueGrowthPerMin;
+            this.maxQueued = maxQueued;
+        }
+
+        public long getTimeMs() {
+            return timeMs;
+        }
+
+        public double getTargetPerHour() {
+            return targetPerHour;
+        }
+
+        public double getOfferedPerHour() {
+            return offeredPerHour;
+        }
+
+        public double getAchievedPerHour() {
+            return achievedPerHour;
+        }
+
+        public long getOffered() {
+            return offered;
+        }
+
+        public long getMovements() {
+            return movements;
+        }
+
+        public int getQueued() {
+            return queued;
+        }
+
+        public double getQueueGrowthPerMin() {
+            return queueGrowthPerMin;
+        }
+
+        public int getMaxQueued() {
+            return maxQueued;
+        }
+
+        public boolean isSaturated() {
+            return offeredPerHour > 0 && achievedPerHour < SATURATION_RATIO * offeredPerHour
+                    && queueGrowthPerMin > 0;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("t=%6.0f s | visé %5.0f | offert %5.0f | écoulé %5.0f vols/h"
+                            + " | file %4d (%+.1f/min)%s",
+                    timeMs / 1000.0, targetPerHour, offeredPerHour, achievedPerHour,
+                    queued, queueGrowthPerMin, isSaturated() ? " | SATURÉ" : "");
+        }
+    }
+}
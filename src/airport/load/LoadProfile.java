@@ -0,0 +1,31 @@
+package airport.load;
+
+// Loi d'arrivée des vols injectés par le LoadGenerator.
+public enum LoadProfile {
+    // un vol à intervalle fixe
+    CONSTANT("Constant"),
+    // processus de Poisson : intervalles exponentiels de même moyenne
+    POISSON("Poisson"),
+    // Poisson non homogène : pointes du matin et du soir, creux entre les deux
+    DIURNE("Diurne");
+
+    private final String label;
+
+    LoadProfile(String label) {
+        this.label = label;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    // Accepte le nom de la constante ou le libellé affiché, sans casse.
+    public static LoadProfile parse(String name) {
+        for (LoadProfile p : values()) {
+            if (p.name().equalsIgnoreCase(name) || p.label.equalsIgnoreCase(name)) {
+                return p;
+            }
+        }
+        throw new IllegalArgumentException("Profil de charge inconnu : " + name);
+    }
+}
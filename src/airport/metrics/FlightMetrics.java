@@ -0,0 +1,69 @@
+package airport.metrics;
+
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+
+import airport.model.AirplaneState;
+import airport.model.FlightType;
+import airport.utils.LatencyHistogram;
+
+/**
+ * Durées de chaque phase de vol (temps passé dans un AirplaneState), ventilées
+ * par stratégie de synchronisation puis par type de vol. L'enregistrement ne
+ * fait qu'incrémenter des compteurs atomiques préalloués.
+ */
+public class FlightMetrics {
+
+    // Les phases d'attente d'une ressource, celles qu'on suit en direct
+    public static final AirplaneState[] WAIT_STATES = {
+            AirplaneState.ATTENTE_ATTERRISSAGE,
+            AirplaneState.ATTENTE_PORTE,
+            AirplaneState.ATTENTE_DECOLLAGE
+    };
+
+    private final ConcurrentHashMap<String, StrategyMetrics> byStrategy = new ConcurrentHashMap<>();
+
+    public StrategyMetrics forStrategy(String strategy) {
+        return byStrategy.computeIfAbsent(strategy, StrategyMetrics::new);
+    }
+
+    public Collection<StrategyMetrics> all() {
+        return byStrategy.values();
+    }
+
+    // speedFactor convertit l'horloge de mesure en ms simulées (1 en événements discrets)
+    public String report(double speedFactor) {
+        StringBuilder sb = new StringBuilder();
+        for (StrategyMetrics m : byStrategy.values()) {
+            sb.append("--- Temps par phase (ms simulées) : ").append(m.getStrategy()).append(" ---\n");
+            LatencyHistogram flights = m.flightTimes();
+            if (flights.getCount() > 0) {
+                sb.append(String.format("Vols : n=%d | p99 %.0f | p99.9 %.0f | max %.0f ms | "
+                                + "déroutements %d | postes éloignés %d | circuits d'attente %d%n",
+                        flights.getCount(),
+                        toMs(flights.valueAtPercentile(99), speedFactor),
+                        toMs(flights.valueAtPercentile(99.9), speedFactor),
+                        toMs(flights.getMax(), speedFactor),
+                        m.getDiversions(), m.getRemoteStands(), m.getHoldingLoops()));
+            }
+            for (FlightType type : FlightType.values()) {
+                for (AirplaneState state : AirplaneState.values()) {
+                    LatencyHistogram h = m.histogram(type, state);
+                    if (h.getCount() == 0) {
+                        continue;
+                    }
+                    sb.append(String.format("%-8s %-21s n=%-8d p50 %8.0f | p99 %8.0f | max %8.0f%n",
+                            type, state, h.getCount(),
+                            toMs(h.valueAtPercentile(50), speedFactor),
+                            toMs(h.valueAtPercentile(99), speedFactor),
+                            toMs(h.getMax(), speedFactor)));
+                }
+            }
+        }
+        return sb.toString();
+    }
+
+    public static double toMs(long nanos, double speedFactor) {
+        return nanos / 1e6 * speedFactor;
+    }
+}
@@ -0,0 +1,54 @@
+package airport.metrics;
+
+import java.util.Arrays;
+
+/**
+ * Temps d'occupation cumulé d'un ensemble de ressources (pistes ou portes).
+ * Non thread-safe : l'appelant le protège avec le verrou de la table
+ * correspondante.
+ */
+public class ResourceUsage {
+
+    private final long[] occupiedSince;
+    private long busyNanos = 0;
+
+    public ResourceUsage(int count) {
+        occupiedSince = new long[count];
+        Arrays.fill(occupiedSince, -1);
+    }
+
+    public void occupy(int index, long now) {
+        occupiedSince[index] = now;
+    }
+
+    // Début de l'occupation en cours, -1 si la ressource est libre
+    public long occupiedSince(int index) {
+        return occupiedSince[index];
+    }
+
+    public void release(int index, long now) {
+        if (occupiedSince[index] >= 0) {
+            busyNanos += now - occupiedSince[index];
+            occupiedSince[index] = -1;
+        }
+    }
+
+    // Occupations en cours comprises
+    public long busyNanos(long now) {
+        long total = busyNanos;
+        for (long since : occupiedSince) {
+            if (since >= 0) {
+                total += now - since;
+            }
+        }
+        return total;
+    }
+
+    public double utilization(long origin, long now) {
+        long elapsed = now - origin;
+        if (elapsed <= 0 || occupiedSince.length == 0) {
+            return 0;
+        }
+        return (double) busyNanos(now) / ((double) elapsed * occupiedSince.length);
+    }
+}
@@ -0,0 +1,83 @@
+package airport.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import airport.model.AirplaneState;
+import airport.model.FlightType;
+import airport.utils.LatencyHistogram;
+
+// Temps passé dans chaque état, par type de vol, pour une stratégie de synchro.
+public class StrategyMetrics {
+
+    private final String strategy;
+    private final LatencyHistogram[][] stateTimes =
+            new LatencyHistogram[FlightType.values().length][AirplaneState.values().length];
+    // Durée totale des vols terminés, du lancement à TERMINE
+    private final LatencyHistogram flightTimes = new LatencyHistogram();
+
+    private final LongAdder diversions = new LongAdder();
+    private final LongAdder remoteStands = new LongAdder();
+    private final LongAdder holdingLoops = new LongAdder();
+
+    public StrategyMetrics(String strategy) {
+        this.strategy = strategy;
+        for (LatencyHistogram[] row : stateTimes) {
+            for (int i = 0; i < row.length; i++) {
+                row[i] = new LatencyHistogram();
+            }
+        }
+    }
+
+    public String getStrategy() {
+        return strategy;
+    }
+
+    public void record(FlightType type, AirplaneState state, long nanos) {
+        stateTimes[type.ordinal()][state.ordinal()].record(nanos);
+    }
+
+    public void recordFlight(long nanos) {
+        flightTimes.record(nanos);
+    }
+
+    public LatencyHistogram flightTimes() {
+        return flightTimes;
+    }
+
+    public void recordDiversion() {
+        diversions.increment();
+    }
+
+    public void recordRemoteStand() {
+        remoteStands.increment();
+    }
+
+    public void recordHoldingLoops(long loops) {
+        holdingLoops.add(loops);
+    }
+
+    public long getDiversions() {
+        return diversions.sum();
+    }
+
+    public long getRemoteStands() {
+        return remoteStands.sum();
+    }
+
+    public long getHoldingLoops() {
+        return holdingLoops.sum();
+    }
+
+    public LatencyHistogram histogram(FlightType type, AirplaneState state) {
+        return stateTimes[type.ordinal()][state.ordinal()];
+    }
+
+    // Arrivées et départs confondus (copie, pour l'affichage)
+    public LatencyHistogram merged(AirplaneState state) {
+        LatencyHistogram h = new LatencyHistogram();
+        for (FlightType type : FlightType.values()) {
+            h.add(histogram(type, state));
+        }
+        return h;
+    }
+}
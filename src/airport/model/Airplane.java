@@ -1,43 +1,144 @@
 package airport.model;
 
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
 import airport.core.Airport;
+import airport.jfr.FlightStateEvent;
+import airport.jfr.SyncAcquireEvent;
 import airport.utils.SimLogger;
 
-public class Airplane extends Thread {
+// Le cycle de vie d'un vol est une simple tâche : c'est l'Airport qui
+// choisit le thread qui l'exécute (plateforme ou virtuel).
+public class Airplane implements Runnable {
+
+    // Durées simulées (ms à vitesse 1x), partagées avec le moteur à événements
+    public static final long IN_FLIGHT_MIN_MS = 1000;
+    public static final long IN_FLIGHT_SPREAD_MS = 2000;
+    public static final long RUNWAY_MS = 2000;
+    public static final long GATE_MS = 3000;
+    // Un tour d'hippodrome en attente d'atterrissage
+    public static final long HOLDING_LOOP_MS = 4000;
+    // Poste éloigné : escale plus longue (bus, escaliers)
+    public static final long REMOTE_STAND_MS = GATE_MS + 2000;
 
     private final String id;
+    private final int number; // partie numérique de l'id (A12 → 12), -1 sinon
     private final FlightType type;
     private volatile AirplaneState state;
     private final Airport airport;
     private final SimLogger logger;
     private final double speedFactor;
+    // Flux aléatoire propre au vol (mode reproductible), null sinon
+    private final SplittableRandom random;
+    private final WakeCategory wakeCategory;
+
+    // Instants (horloge de l'Airport, ns) de début et de fin du vol
+    private volatile long startedAt = -1;
+    private volatile long finishedAt = -1;
+    // Entrée dans l'état courant (seul le thread du vol écrit)
+    private long stateSince = -1;
 
     public Airplane(String id, FlightType type,
                     Airport airport, SimLogger logger,
                     double speedFactor) {
+        this(id, type, airport, logger, speedFactor, null);
+    }
+
+    public Airplane(String id, FlightType type,
+                    Airport airport, SimLogger logger,
+                    double speedFactor, SplittableRandom random) {
         this.id = id;
+        this.number = parseNumber(id);
         this.type = type;
         this.airport = airport;
         this.logger = logger;
         this.speedFactor = speedFactor;
+        this.random = random;
+        this.wakeCategory = WakeCategory.fromUniform(random != null ? random.nextDouble() : Math.random());
         this.state = (type == FlightType.ARRIVEE)
                 ? AirplaneState.EN_VOL
                 : AirplaneState.A_LA_PORTE;
     }
 
+    private static int parseNumber(String id) {
+        try {
+            return Integer.parseInt(id.substring(1));
+        } catch (RuntimeException e) {
+            return -1;
+        }
+    }
+
     public String getAirplaneId() {
         return id;
     }
 
+    public int getNumber() {
+        return number;
+    }
+
     public FlightType getType() {
         return type;
     }
 
+    public WakeCategory getWakeCategory() {
+        return wakeCategory;
+    }
+
+    public double getSpeedFactor() {
+        return speedFactor;
+    }
+
     public AirplaneState getAirplaneState() {
         return state;
     }
 
-    private void setState(AirplaneState newState) {
+    public long getStartedAt() {
+        return startedAt;
+    }
+
+    public long getFinishedAt() {
+        return finishedAt;
+    }
+
+    // Entrée dans l'état courant (horloge de l'Airport), -1 si inconnue ;
+    // à lire depuis le thread du vol
+    public long getStateSince() {
+        return stateSince;
+    }
+
+    // Instant courant sur l'horloge de l'Airport (ns) : réelle, ou virtuelle en
+    // simulation à événements
+    public long nanoTime() {
+        return airport.nanoTime();
+    }
+
+    // Durée de vol avant la demande d'atterrissage (ms simulées)
+    public long drawInFlightMs() {
+        double u = (random != null) ? random.nextDouble() : Math.random();
+        return IN_FLIGHT_MIN_MS + (long) (u * IN_FLIGHT_SPREAD_MS);
+    }
+
+    public void markStarted() {
+        startedAt = airport.nanoTime();
+        // l'état initial d'un départ (A_LA_PORTE) n'est qu'un placeholder :
+        // sa première vraie phase est ATTENTE_PORTE
+        stateSince = (type == FlightType.ARRIVEE) ? startedAt : -1;
+    }
+
+    public void setState(AirplaneState newState) {
+        long now = airport.nanoTime();
+        if (stateSince >= 0 && newState != state) {
+            airport.recordStateTime(this, state, now - stateSince);
+        }
+        FlightStateEvent.emit(this, state, newState, stateSince >= 0 ? now - stateSince : -1);
+        stateSince = now;
+        if (newState == AirplaneState.TERMINE) {
+            finishedAt = now;
+            if (startedAt >= 0) {
+                airport.recordFlightTime(this, now - startedAt);
+            }
+        }
         this.state = newState;
         airport.onAirplaneStateChanged(this);
     }
@@ -46,8 +147,58 @@ public class Airplane extends Thread {
         Thread.sleep((long) (ms / speedFactor));
     }
 
+    private long simToNanos(long ms) {
+        return (long) (ms * 1_000_000L / speedFactor);
+    }
+
+    // Attente d'une piste dans la limite du carburant ; false = déroutement
+    private boolean awaitLandingRunway(FlightLimits limits) throws InterruptedException {
+        long t0 = airport.nanoTime();
+        boolean granted;
+        if (limits.limitsFuel()) {
+            granted = airport.getSync().tryRequestRunwayForLanding(
+                    this, simToNanos(limits.getFuelBudgetMs()), TimeUnit.NANOSECONDS);
+        } else {
+            airport.getSync().requestRunwayForLanding(this);
+            granted = true;
+        }
+        airport.recordHolding(this, (long) ((airport.nanoTime() - t0) / 1e6 * speedFactor));
+        return granted;
+    }
+
+    // Attente d'une porte, bornée ; false = poste éloigné
+    private boolean awaitGate(FlightLimits limits) throws InterruptedException {
+        if (limits.limitsGateWait()) {
+            return airport.getSync().tryRequestGate(simToNanos(limits.getGateWaitMs()), TimeUnit.NANOSECONDS);
+        }
+        airport.getSync().requestGate();
+        return true;
+    }
+
+    // Clôt l'attente de ressource (e est null si l'événement JFR n'est pas activé)
+    private void syncDone(SyncAcquireEvent e, String resource, int resourceId, boolean granted) {
+        if (e != null) {
+            e.done(this, airport.getStrategyName(), resource, resourceId, granted);
+        }
+    }
+
+    private void divert() {
+        airport.removeFromLandingQueue(this);
+        setState(AirplaneState.DEROUTE);
+        airport.recordDiversion(this);
+        logger.log("Avion " + id + " dérouté : plus de carburant pour attendre.");
+    }
+
+    private void useRemoteStand(String purpose) throws InterruptedException {
+        setState(AirplaneState.POSTE_ELOIGNE);
+        airport.recordRemoteStand(this);
+        logger.log("Avion " + id + " sur un poste éloigné (" + purpose + ")");
+        sleepSim(REMOTE_STAND_MS);
+    }
+
     @Override
     public void run() {
+        markStarted();
         try {
             if (type == FlightType.ARRIVEE) {
                 runArrival();
@@ -64,60 +215,82 @@ public class Airplane extends Thread {
 
     private void runArrival() throws InterruptedException {
         logger.log("Avion " + id + " en vol.");
-        sleepSim(1000 + (long) (Math.random() * 2000));
+        sleepSim(drawInFlightMs());
 
         setState(AirplaneState.ATTENTE_ATTERRISSAGE);
         airport.addToLandingQueue(this);
 
-        airport.getSync().requestRunwayForLanding();
+        FlightLimits limits = airport.getFlightLimits();
+        SyncAcquireEvent wait = SyncAcquireEvent.start();
+        if (!awaitLandingRunway(limits)) {
+            syncDone(wait, SyncAcquireEvent.LANDING, -1, false);
+            divert();
+            return;
+        }
         Runway r = airport.occupyRunway(this);
-        airport.removeFromLandingQueue(this);
+        syncDone(wait, SyncAcquireEvent.LANDING, r.getId(), true);
 
         setState(AirplaneState.ATTERRISSAGE);
         logger.log("Avion " + id + " atterrit sur piste " + r.getId());
-        sleepSim(2000);
+        sleepSim(airport.separationMs(r, this) + RUNWAY_MS);
 
         airport.freeRunway(r);
-        airport.getSync().releaseRunway();
+        airport.getSync().releaseRunway(this, r.getId() - 1);
 
         setState(AirplaneState.ATTENTE_PORTE);
-        airport.getSync().requestGate();
-        Gate g = airport.occupyGate(this);
+        wait = SyncAcquireEvent.start();
+        if (awaitGate(limits)) {
+            Gate g = airport.occupyGate(this);
+            syncDone(wait, SyncAcquireEvent.GATE, g.getId(), true);
 
-        setState(AirplaneState.A_LA_PORTE);
-        logger.log("Avion " + id + " à la porte " + g.getId());
-        sleepSim(3000);
+            setState(AirplaneState.A_LA_PORTE);
+            logger.log("Avion " + id + " à la porte " + g.getId());
+            sleepSim(GATE_MS);
 
-        airport.freeGate(g);
-        airport.getSync().releaseGate();
+            airport.freeGate(g);
+            airport.getSync().releaseGate();
+        } else {
+            syncDone(wait, SyncAcquireEvent.GATE, -1, false);
+            useRemoteStand("débarquement");
+        }
 
         setState(AirplaneState.AU_SOL);
     }
 
     private void runDeparture() throws InterruptedException {
         setState(AirplaneState.ATTENTE_PORTE);
-        airport.getSync().requestGate();
-        Gate g = airport.occupyGate(this);
+        SyncAcquireEvent wait = SyncAcquireEvent.start();
+        if (awaitGate(airport.getFlightLimits())) {
+            Gate g = airport.occupyGate(this);
+            syncDone(wait, SyncAcquireEvent.GATE, g.getId(), true);
+
+            setState(AirplaneState.A_LA_PORTE);
+            logger.log("Avion " + id + " à la porte " + g.getId() + " (préparation au départ)");
+            sleepSim(GATE_MS);
 
-        setState(AirplaneState.A_LA_PORTE);
-        logger.log("Avion " + id + " à la porte " + g.getId() + " (préparation au départ)");
-        sleepSim(3000);
+            setState(AirplaneState.ATTENTE_DECOLLAGE);
+            airport.addToTakeoffQueue(this);
 
-        setState(AirplaneState.ATTENTE_DECOLLAGE);
-        airport.addToTakeoffQueue(this);
+            airport.freeGate(g);
+            airport.getSync().releaseGate();
+        } else {
+            syncDone(wait, SyncAcquireEvent.GATE, -1, false);
+            useRemoteStand("embarquement");
 
-        airport.freeGate(g);
-        airport.getSync().releaseGate();
+            setState(AirplaneState.ATTENTE_DECOLLAGE);
+            airport.addToTakeoffQueue(this);
+        }
 
-        airport.getSync().requestRunwayForTakeoff();
+        wait = SyncAcquireEvent.start();
+        airport.getSync().requestRunwayForTakeoff(this);
         Runway r = airport.occupyRunway(this);
-        airport.removeFromTakeoffQueue(this);
+        syncDone(wait, SyncAcquireEvent.TAKEOFF, r.getId(), true);
 
         setState(AirplaneState.DECOLLAGE);
         logger.log("Avion " + id + " décolle de la piste " + r.getId());
-        sleepSim(2000);
+        sleepSim(airport.separationMs(r, this) + RUNWAY_MS);
 
         airport.freeRunway(r);
-        airport.getSync().releaseRunway();
+        airport.getSync().releaseRunway(this, r.getId() - 1);
     }
 }
\ No newline at end of file
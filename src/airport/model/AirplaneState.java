@@ -10,5 +10,8 @@ public enum AirplaneState {
     PRET_DECOLLAGE,
     ATTENTE_DECOLLAGE,
     DECOLLAGE,
-    TERMINE
+    TERMINE,
+    // Ajoutés après TERMINE pour garder les codes des journaux existants
+    DEROUTE,        // carburant d'attente épuisé : dégagement vers un autre terrain
+    POSTE_ELOIGNE   // aucune porte libre à temps : poste éloigné, passagers en bus
 }
\ No newline at end of file
@@ -0,0 +1,47 @@
+package airport.model;
+
+/**
+ * Limites d'attente d'un vol (ms simulées, 0 = attente illimitée) :
+ * carburant disponible pour les circuits d'attente avant déroutement, et
+ * attente maximale d'une porte avant d'être envoyé sur un poste éloigné.
+ * Par défaut aucune limite (NONE) : les vols attendent comme avant.
+ */
+public final class FlightLimits {
+
+    public static final FlightLimits NONE = new FlightLimits(0, 0);
+    // Valeurs proposées quand on active les limites (case de l'IHM)
+    public static final FlightLimits TYPICAL = new FlightLimits(30_000, 15_000);
+
+    private final long fuelBudgetMs;
+    private final long gateWaitMs;
+
+    public FlightLimits(long fuelBudgetMs, long gateWaitMs) {
+        if (fuelBudgetMs < 0 || gateWaitMs < 0) {
+            throw new IllegalArgumentException("Limites négatives : " + fuelBudgetMs + ", " + gateWaitMs);
+        }
+        this.fuelBudgetMs = fuelBudgetMs;
+        this.gateWaitMs = gateWaitMs;
+    }
+
+    public long getFuelBudgetMs() {
+        return fuelBudgetMs;
+    }
+
+    public long getGateWaitMs() {
+        return gateWaitMs;
+    }
+
+    public boolean limitsFuel() {
+        return fuelBudgetMs > 0;
+    }
+
+    public boolean limitsGateWait() {
+        return gateWaitMs > 0;
+    }
+
+    @Override
+    public String toString() {
+        return "carburant " + (limitsFuel() ? fuelBudgetMs + " ms" : "illimité")
+                + ", attente porte " + (limitsGateWait() ? gateWaitMs + " ms" : "illimitée");
+    }
+}
@@ -4,6 +4,11 @@ public class Runway {
     private final int id;
     private Airplane currentAirplane;
 
+    // Dernier appareil parti et instant de libération (horloge de l'Airport),
+    // pour les écarts de turbulence de sillage
+    private WakeCategory lastCategory;
+    private long lastReleasedAt;
+
     public Runway(int id) {
         this.id = id;
     }
@@ -24,6 +29,24 @@ public class Runway {
         this.currentAirplane = null;
     }
 
+    public synchronized void release(long now) {
+        if (currentAirplane != null) {
+            lastCategory = currentAirplane.getWakeCategory();
+            lastReleasedAt = now;
+        }
+        this.currentAirplane = null;
+    }
+
+    // Écart de sillage restant (ms simulées) avant que a puisse utiliser la piste
+    public synchronized long separationRemainingMs(Airplane a, long now, double speedFactor) {
+        long gap = a.getWakeCategory().separationAfterMs(lastCategory);
+        if (gap == 0) {
+            return 0;
+        }
+        double elapsedMs = (now - lastReleasedAt) / 1e6 * speedFactor;
+        return Math.max(0, gap - (long) elapsedMs);
+    }
+
     public synchronized boolean isFree() {
         return currentAirplane == null;
     }
@@ -0,0 +1,34 @@
+package airport.model;
+
+/**
+ * Catégorie de turbulence de sillage. Derrière un appareil plus lourd, un
+ * suiveur plus léger doit laisser passer un délai supplémentaire avant
+ * d'utiliser la même piste.
+ */
+public enum WakeCategory {
+    LEGER,
+    MOYEN,
+    LOURD;
+
+    // Écart de sillage par catégorie d'écart entre meneur et suiveur (ms à 1x)
+    public static final long SEPARATION_STEP_MS = 1000;
+
+    // Répartition du trafic : 20 % léger, 60 % moyen, 20 % lourd
+    public static WakeCategory fromUniform(double u) {
+        if (u < 0.2) {
+            return LEGER;
+        }
+        return u < 0.8 ? MOYEN : LOURD;
+    }
+
+    /**
+     * Délai supplémentaire (ms simulées) qu'un suiveur de cette catégorie doit
+     * respecter après la libération de la piste par le meneur donné.
+     */
+    public long separationAfterMs(WakeCategory leader) {
+        if (leader == null) {
+            return 0;
+        }
+        return Math.max(0, leader.ordinal() - ordinal()) * SEPARATION_STEP_MS;
+    }
+}
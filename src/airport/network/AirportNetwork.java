@@ -0,0 +1,194 @@
+package airport.network;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.Phaser;
+
+import airport.core.Airport;
+import airport.model.Airplane;
+import airport.sync.SyncStrategy;
+import airport.utils.LatencyHistogram;
+
+/**
+ * Réseau de N aéroports simulés en parallèle : chaque aéroport est un shard
+ * (simulation à événements discrets) attribué à un seul worker, et un départ
+ * devient, après sa croisière, une arrivée dans un autre aéroport.
+ *
+ * Synchronisation conservatrice par fenêtres : aucun vol ne met moins de
+ * cruiseMinMs pour rejoindre un autre aéroport, donc chaque worker peut
+ * traiter une fenêtre de cette durée sans rien attendre des autres. Les vols
+ * transmis pendant la fenêtre sont postés dans la boîte aux lettres du shard
+ * destinataire et relevés après la barrière. Les fenêtres vides sont sautées.
+ */
+public class AirportNetwork {
+
+    private final List<AirportShard> shards = new ArrayList<>();
+    private final long cruiseMinMs;
+    private final long cruiseSpreadMs;
+
+    // Retard cumulé (ms) à la fin de chaque étape d'une rotation
+    private final LatencyHistogram[] legDelays;
+
+    private volatile long windowEnd;
+    private long windows = 0;
+    private volatile Throwable failure;
+
+    public static AirportNetwork create(int airports, int runways, int gates, SyncStrategy strategy,
+                                        long cruiseMinMs, long cruiseMaxMs, int maxLegs, long seed) {
+        if (airports < 2) {
+            throw new IllegalArgumentException("Il faut au moins 2 aéroports.");
+        }
+        if (cruiseMinMs <= 0 || cruiseMaxMs < cruiseMinMs) {
+            throw new IllegalArgumentException("Durées de croisière invalides.");
+        }
+        AirportNetwork network = new AirportNetwork(cruiseMinMs, cruiseMaxMs, maxLegs);
+        for (int i = 0; i < airports; i++) {
+            network.shards.add(new AirportShard(i, network, runways, gates, strategy, seed));
+        }
+        return network;
+    }
+
+    private AirportNetwork(long cruiseMinMs, long cruiseMaxMs, int maxLegs) {
+        this.cruiseMinMs = cruiseMinMs;
+        this.cruiseSpreadMs = cruiseMaxMs - cruiseMinMs;
+        this.legDelays = new LatencyHistogram[maxLegs];
+        for (int i = 0; i < maxLegs; i++) {
+            legDelays[i] = new LatencyHistogram();
+        }
+    }
+
+    // Durée d'une étape sans attente : porte, décollage, croisière, atterrissage, porte
+    static long nominalLegMs(long cruiseMs) {
+        return Airplane.GATE_MS + Airplane.RUNWAY_MS + cruiseMs + Airplane.RUNWAY_MS + Airplane.GATE_MS;
+    }
+
+    // Chaque aéroport lance `aircraft` appareils, un toutes les intervalMs,
+    // qui enchaînent chacun `legs` étapes vers des aéroports tirés au hasard.
+    public void scheduleRotations(int aircraft, int legs, long intervalMs) {
+        if (legs < 1 || legs > legDelays.length) {
+            throw new IllegalArgumentException("Nombre d'étapes hors limites : " + legs);
+        }
+        for (AirportShard shard : shards) {
+            for (int k = 0; k < aircraft; k++) {
+                shard.scheduleRotation(k * intervalMs, legs);
+            }
+        }
+    }
+
+    int pickDestination(int origin, SplittableRandom random) {
+        int d = random.nextInt(shards.size() - 1);
+        return d >= origin ? d + 1 : d;
+    }
+
+    long drawCruise(SplittableRandom random) {
+        return cruiseMinMs + (cruiseSpreadMs == 0 ? 0 : random.nextLong(cruiseSpreadMs + 1));
+    }
+
+    AirportShard shard(int i) {
+        return shards.get(i);
+    }
+
+    void recordLegDelay(int legIndex, long delayMs) {
+        legDelays[legIndex].record(Math.max(0, delayMs));
+    }
+
+    public int getAirportCount() {
+        return shards.size();
+    }
+
+    public long getWindowCount() {
+        return windows;
+    }
+
+    public LatencyHistogram getLegDelays(int legIndex) {
+        return legDelays[legIndex];
+    }
+
+    public Airport getAirport(int i) {
+        return shards.get(i).getAirport();
+    }
+
+    public long getCompletedFlights(int i) {
+        return shards.get(i).getSimulation().getCompletedFlights();
+    }
+
+    public long getHandoffsOut(int i) {
+        return shards.get(i).getHandoffsOut();
+    }
+
+    public long getHandoffsIn(int i) {
+        return shards.get(i).getHandoffsIn();
+    }
+
+    public long getNow(int i) {
+        return shards.get(i).getSimulation().now();
+    }
+
+    // Début de la prochaine fenêtre non vide, Long.MAX_VALUE si tout est fini.
+    // Appelé quand tous les workers sont à la barrière.
+    private long nextWindowStart() {
+        long t = Long.MAX_VALUE;
+        for (AirportShard shard : shards) {
+            t = Math.min(t, shard.nextTime());
+        }
+        return t;
+    }
+
+    /**
+     * Exécute la simulation jusqu'à épuisement des événements. Les aéroports
+     * sont répartis en tourniquet sur `workers` threads.
+     */
+    public void run(int workers) throws InterruptedException {
+        int w = Math.max(1, Math.min(workers, shards.size()));
+        long start = nextWindowStart();
+        if (start == Long.MAX_VALUE) {
+            return;
+        }
+        windowEnd = start + cruiseMinMs;
+        Phaser barrier = new Phaser(w) {
+            @Override
+            protected boolean onAdvance(int phase, int parties) {
+                windows++;
+                long next = nextWindowStart();
+                if (next == Long.MAX_VALUE || failure != null) {
+                    return true;
+                }
+                windowEnd = next + cruiseMinMs;
+                return false;
+            }
+        };
+        List<Thread> threads = new ArrayList<>(w);
+        for (int k = 0; k < w; k++) {
+            List<AirportShard> mine = new ArrayList<>();
+            for (int i = k; i < shards.size(); i += w) {
+                mine.add(shards.get(i));
+            }
+            Thread t = new Thread(() -> work(mine, barrier), "network-worker-" + k);
+            threads.add(t);
+            t.start();
+        }
+        for (Thread t : threads) {
+            t.join();
+        }
+        if (failure != null) {
+            throw new IllegalStateException("Échec d'un worker du réseau", failure);
+        }
+    }
+
+    private void work(List<AirportShard> mine, Phaser barrier) {
+        try {
+            while (!barrier.isTerminated()) {
+                long end = windowEnd;
+                for (AirportShard shard : mine) {
+                    shard.drainMailbox();
+                    shard.runWindow(end);
+                }
+                barrier.arriveAndAwaitAdvance();
+            }
+        } catch (RuntimeException | Error e) {
+            failure = e;
+            barrier.forceTermination();
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package airport.network;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import airport.core.Airport;
+import airport.model.Airplane;
+import airport.model.FlightType;
+import airport.sim.EventSimulation;
+import airport.sync.SyncStrategy;
+import airport.utils.LogSink;
+import airport.utils.SimLogger;
+
+/**
+ * Un aéroport du réseau et sa simulation à événements discrets. Seul le
+ * worker propriétaire touche à la simulation ; les autres ne font que
+ * déposer des Handoff dans la boîte aux lettres (file sans verrou).
+ */
+class AirportShard {
+
+    private final int index;
+    private final AirportNetwork network;
+    private final Airport airport;
+    private final EventSimulation sim;
+    private final SplittableRandom random;
+
+    final ConcurrentLinkedQueue<Handoff> mailbox = new ConcurrentLinkedQueue<>();
+    private final List<Handoff> inbox = new ArrayList<>();
+
+    // Étape en cours de chaque appareil présent ici
+    private final Map<Airplane, Leg> legs = new IdentityHashMap<>();
+    private long nextSeq = 0;
+    private long handoffsOut = 0;
+    private long handoffsIn = 0;
+
+    private static final class Leg {
+        final int index;
+        final int left;
+        final long ideal; // début idéal d'un départ, fin idéale d'une arrivée
+
+        Leg(int index, int left, long ideal) {
+            this.index = index;
+            this.left = left;
+            this.ideal = ideal;
+        }
+    }
+
+    AirportShard(int index, AirportNetwork network, int runways, int gates,
+                 SyncStrategy strategy, long seed) {
+        this.index = index;
+        this.network = network;
+        this.airport = new Airport(runways, gates, strategy.create(runways, gates), new SimLogger(LogSink.DISCARD));
+        this.sim = new EventSimulation(airport, seed + index);
+        this.random = new SplittableRandom(seed * 31 + index);
+        sim.setCompletionListener(this::onCompleted);
+    }
+
+    int getIndex() {
+        return index;
+    }
+
+    Airport getAirport() {
+        return airport;
+    }
+
+    EventSimulation getSimulation() {
+        return sim;
+    }
+
+    long getHandoffsOut() {
+        return handoffsOut;
+    }
+
+    long getHandoffsIn() {
+        return handoffsIn;
+    }
+
+    void scheduleRotation(long time, int legCount) {
+        Airplane a = sim.scheduleDeparture(time);
+        legs.put(a, new Leg(0, legCount, time));
+    }
+
+    // Prochain instant à traiter : événement local ou vol annoncé
+    long nextTime() {
+        long t = sim.nextEventTime();
+        for (Handoff h : mailbox) {
+            t = Math.min(t, h.time);
+        }
+        return t;
+    }
+
+    void drainMailbox() {
+        Handoff h;
+        while ((h = mailbox.poll()) != null) {
+            inbox.add(h);
+        }
+        Collections.sort(inbox);
+        for (Handoff in : inbox) {
+            Airplane a = sim.scheduleInbound(in.time);
+            legs.put(a, new Leg(in.legIndex, in.legsLeft, in.idealEnd));
+            handoffsIn++;
+        }
+        inbox.clear();
+    }
+
+    // Traite les événements d'instant < end
+    void runWindow(long end) {
+        sim.runUntil(end - 1);
+    }
+
+    private void onCompleted(Airplane a) {
+        Leg leg = legs.remove(a);
+        if (leg == null) {
+            return;
+        }
+        long now = sim.now();
+        if (a.getType() == FlightType.DEPART) {
+            int dest = network.pickDestination(index, random);
+            long cruise = network.drawCruise(random);
+            long idealEnd = leg.ideal + AirportNetwork.nominalLegMs(cruise);
+            network.shard(dest).mailbox.add(
+                    new Handoff(now + cruise, index, nextSeq++, leg.index, leg.left, idealEnd));
+            handoffsOut++;
+        } else {
+            network.recordLegDelay(leg.index, now - leg.ideal);
+            if (leg.left > 1) {
+                // rotation immédiate : le retard se reporte sur l'étape suivante
+                Airplane next = sim.scheduleDeparture(now);
+                legs.put(next, new Leg(leg.index + 1, leg.left - 1, leg.ideal));
+            }
+        }
+    }
+}
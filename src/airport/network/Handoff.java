@@ -0,0 +1,37 @@
+package airport.network;
+
+/**
+ * Vol transmis d'un aéroport à un autre : il se présente en approche à
+ * l'aéroport destinataire à l'instant time (ms virtuelles). Le tri par
+ * (instant, origine, numéro) rend l'ordre de traitement indépendant de
+ * l'entrelacement des workers.
+ */
+final class Handoff implements Comparable<Handoff> {
+
+    final long time;
+    final int origin;
+    final long seq;
+    final int legIndex;   // rang de l'étape dans la rotation de l'appareil
+    final int legsLeft;   // étapes restantes, celle-ci comprise
+    final long idealEnd;  // fin de l'étape sans aucune attente
+
+    Handoff(long time, int origin, long seq, int legIndex, int legsLeft, long idealEnd) {
+        this.time = time;
+        this.origin = origin;
+        this.seq = seq;
+        this.legIndex = legIndex;
+        this.legsLeft = legsLeft;
+        this.idealEnd = idealEnd;
+    }
+
+    @Override
+    public int compareTo(Handoff o) {
+        if (time != o.time) {
+            return Long.compare(time, o.time);
+        }
+        if (origin != o.origin) {
+            return Integer.compare(origin, o.origin);
+        }
+        return Long.compare(seq, o.seq);
+    }
+}
@@ -0,0 +1,119 @@
+package airport.network;
+
+import airport.metrics.FlightMetrics;
+import airport.model.AirplaneState;
+import airport.sync.SyncStrategy;
+import airport.utils.LatencyHistogram;
+
+/**
+ * Point d'entrée de la simulation d'un réseau d'aéroports : propagation des
+ * retards le long des rotations des appareils.
+ *
+ * Exemple :
+ *   java -cp bin airport.network.NetworkRunner --airports 16 --workers 4
+ *        --aircraft 2000 --legs 5 --interval 5000 --cruise 5000,20000
+ */
+public class NetworkRunner {
+
+    private int airports = 8;
+    private int workers = Runtime.getRuntime().availableProcessors();
+    private int runways = 2;
+    private int gates = 4;
+    private SyncStrategy strategy = SyncStrategy.MONITEUR;
+    private int aircraft = 1000;
+    private int legs = 4;
+    private long intervalMs = 5000;
+    private long cruiseMinMs = 5000;
+    private long cruiseMaxMs = 20000;
+    private long seed = 42;
+
+    public static void main(String[] args) throws InterruptedException {
+        NetworkRunner runner = new NetworkRunner();
+        try {
+            runner.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(
+                    "Usage : NetworkRunner [--airports N] [--workers N] [--runways N] [--gates N]\n" +
+                    "                      [--sync MONITEUR|SEMAPHORE|REENTRANT_LOCK|CAS|SEQUENCEUR] [--aircraft N]\n" +
+                    "                      [--legs N] [--interval ms] [--cruise min,max] [--seed N]");
+            System.exit(2);
+        }
+        runner.run();
+    }
+
+    private void parse(String[] args) {
+        for (int i = 0; i < args.length; i += 2) {
+            if (i + 1 >= args.length) {
+                throw new IllegalArgumentException("Valeur manquante pour " + args[i]);
+            }
+            String value = args[i + 1];
+            switch (args[i]) {
+                case "--airports": airports = Integer.parseInt(value); break;
+                case "--workers": workers = Integer.parseInt(value); break;
+                case "--runways": runways = Integer.parseInt(value); break;
+                case "--gates": gates = Integer.parseInt(value); break;
+                case "--sync": strategy = SyncStrategy.parse(value); break;
+                case "--aircraft": aircraft = Integer.parseInt(value); break;
+                case "--legs": legs = Integer.parseInt(value); break;
+                case "--interval": intervalMs = Long.parseLong(value); break;
+                case "--cruise": {
+                    String[] mm = value.split(",");
+                    cruiseMinMs = Long.parseLong(mm[0]);
+                    cruiseMaxMs = mm.length > 1 ? Long.parseLong(mm[1]) : cruiseMinMs;
+                    break;
+                }
+                case "--seed": seed = Long.parseLong(value); break;
+                default: throw new IllegalArgumentException("Option inconnue : " + args[i]);
+            }
+        }
+    }
+
+    private void run() throws InterruptedException {
+        AirportNetwork network = AirportNetwork.create(airports, runways, gates, strategy,
+                cruiseMinMs, cruiseMaxMs, legs, seed);
+        network.scheduleRotations(aircraft, legs, intervalMs);
+
+        long t0 = System.nanoTime();
+        network.run(workers);
+        double wallMs = (System.nanoTime() - t0) / 1e6;
+
+        long flights = 0;
+        long simulatedMs = 0;
+        for (int i = 0; i < airports; i++) {
+            flights += network.getCompletedFlights(i);
+            simulatedMs = Math.max(simulatedMs, network.getNow(i));
+        }
+
+        System.out.println("=== Réseau d'aéroports ===");
+        System.out.printf("Configuration : %d aéroports (%d pistes, %d portes, %s), %d workers, graine %d%n",
+                airports, runways, gates, strategy.getLabel(), Math.min(workers, airports), seed);
+        System.out.printf("Trafic        : %d appareils × %d étapes par aéroport, croisière %d-%d ms%n",
+                aircraft, legs, cruiseMinMs, cruiseMaxMs);
+        System.out.printf("Durée         : %.1f ms réelles, %.1f s simulées, %d fenêtres%n",
+                wallMs, simulatedMs / 1000.0, network.getWindowCount());
+        System.out.printf("Débit         : %,.0f vols (mouvements)/s réels%n", flights / (wallMs / 1000));
+
+        System.out.println("--- Retard cumulé en fin d'étape (ms simulées) ---");
+        for (int leg = 0; leg < legs; leg++) {
+            LatencyHistogram h = network.getLegDelays(leg);
+            System.out.printf("Étape %-2d n=%-8d p50 %8d | p90 %8d | p99 %8d | max %8d%n",
+                    leg + 1, h.getCount(), h.valueAtPercentile(50), h.valueAtPercentile(90),
+                    h.valueAtPercentile(99), h.getMax());
+        }
+
+        System.out.println("--- Par aéroport ---");
+        for (int i = 0; i < airports; i++) {
+            LatencyHistogram landing = network.getAirport(i).getCurrentMetrics()
+                    .merged(AirplaneState.ATTENTE_ATTERRISSAGE);
+            LatencyHistogram takeoff = network.getAirport(i).getCurrentMetrics()
+                    .merged(AirplaneState.ATTENTE_DECOLLAGE);
+            System.out.printf("Aéroport %-3d mouvements %-8d reçus %-8d envoyés %-8d "
+                            + "attente atterr. p99 %6.0f | décollage p99 %6.0f | pistes %.0f %%%n",
+                    i, network.getCompletedFlights(i), network.getHandoffsIn(i), network.getHandoffsOut(i),
+                    FlightMetrics.toMs(landing.valueAtPercentile(99), 1.0),
+                    FlightMetrics.toMs(takeoff.valueAtPercentile(99), 1.0),
+                    network.getAirport(i).getRunwayUtilization() * 100);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package airport.schedule;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+
+import airport.model.FlightType;
+
+// Programme au format binaire compact écrit par ScheduleWriter (en-tête déjà lu).
+class BinaryScheduleReader extends ScheduleReader {
+
+    private final InputStream in;
+    private long timeMs = 0;
+
+    BinaryScheduleReader(InputStream in) {
+        this.in = in;
+    }
+
+    @Override
+    protected ScheduledFlight readNext() throws IOException {
+        int b = in.read();
+        if (b < 0) {
+            return null;
+        }
+        // varint non signé : (écart << 1) | type
+        long v = 0;
+        int shift = 0;
+        while (true) {
+            v |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                break;
+            }
+            shift += 7;
+            if (shift > 63) {
+                throw new IOException("Varint trop long dans le programme binaire.");
+            }
+            b = in.read();
+            if (b < 0) {
+                throw new EOFException("Programme binaire tronqué.");
+            }
+        }
+        timeMs += v >>> 1;
+        return new ScheduledFlight(timeMs, (v & 1) == 0 ? FlightType.ARRIVEE : FlightType.DEPART);
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+}
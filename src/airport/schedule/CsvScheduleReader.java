@@ -0,0 +1,75 @@
+package airport.schedule;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+import airport.model.FlightType;
+
+/**
+ * Programme au format CSV, une ligne par vol : « temps_ms,type », où type vaut
+ * ARRIVEE/DEPART (ou A/D). Les lignes vides, les commentaires (#) et une
+ * ligne d'en-tête non numérique sont ignorés.
+ */
+class CsvScheduleReader extends ScheduleReader {
+
+    private final BufferedReader in;
+    private long lineNumber = 0;
+    // L'en-tête ne peut être que la première ligne utile (après les commentaires)
+    private boolean firstRecord = true;
+
+    CsvScheduleReader(InputStream in) {
+        this.in = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8), 1 << 16);
+    }
+
+    @Override
+    protected ScheduledFlight readNext() throws IOException {
+        String line;
+        while ((line = in.readLine()) != null) {
+            lineNumber++;
+            line = line.trim();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            int comma = line.indexOf(',');
+            if (comma < 0) {
+                throw new IOException("Ligne " + lineNumber + " : virgule attendue : " + line);
+            }
+            String time = line.substring(0, comma).trim();
+            boolean first = firstRecord;
+            firstRecord = false;
+            if (first && !time.isEmpty() && !Character.isDigit(time.charAt(0))) {
+                continue; // en-tête
+            }
+            try {
+                return new ScheduledFlight(Long.parseLong(time), parseType(line.substring(comma + 1).trim()));
+            } catch (IllegalArgumentException e) {
+                throw new IOException("Ligne " + lineNumber + " invalide : " + line, e);
+            }
+        }
+        return null;
+    }
+
+    static FlightType parseType(String s) {
+        switch (s.toUpperCase(Locale.ROOT)) {
+            case "A":
+            case "ARRIVEE":
+            case "ARRIVÉE":
+                return FlightType.ARRIVEE;
+            case "D":
+            case "DEPART":
+            case "DÉPART":
+                return FlightType.DEPART;
+            default:
+                throw new IllegalArgumentException("Type de vol inconnu : " + s);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+}
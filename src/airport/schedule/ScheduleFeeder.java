@@ -0,0 +1,94 @@
+package airport.schedule;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicLong;
+
+import airport.core.Airport;
+import airport.model.FlightType;
+import airport.utils.SimLogger;
+
+/**
+ * Injecte un programme de vols dans un Airport en temps réel : un thread lit
+ * le programme au fil de l'eau, dort jusqu'à l'instant prévu de chaque vol
+ * (divisé par le facteur de vitesse) puis le lance. Seul le vol suivant est
+ * en mémoire ; les vols en retard sont lancés immédiatement. Un programme
+ * Closeable (ScheduleReader) est fermé à la fin de l'injection.
+ */
+public class ScheduleFeeder {
+
+    private final Airport airport;
+    private final Iterator<ScheduledFlight> reader;
+    private final double speedFactor;
+    private final SimLogger logger;
+    private final Thread thread;
+
+    private final AtomicLong launched = new AtomicLong();
+
+    public ScheduleFeeder(Airport airport, Iterator<ScheduledFlight> reader, double speedFactor, SimLogger logger) {
+        this.airport = airport;
+        this.reader = reader;
+        this.speedFactor = speedFactor;
+        this.logger = logger;
+        this.thread = new Thread(this::feed, "schedule-feeder");
+        this.thread.setDaemon(true);
+    }
+
+    public void start() {
+        thread.start();
+    }
+
+    public void stop() {
+        thread.interrupt();
+    }
+
+    public void join() throws InterruptedException {
+        thread.join();
+    }
+
+    public void join(long millis) throws InterruptedException {
+        thread.join(millis);
+    }
+
+    public boolean isRunning() {
+        return thread.isAlive();
+    }
+
+    public long getLaunchedCount() {
+        return launched.get();
+    }
+
+    private void feed() {
+        long t0 = System.nanoTime();
+        try {
+            while (reader.hasNext()) {
+                ScheduledFlight f = reader.next();
+                long dueNanos = t0 + (long) (f.getTimeMs() * 1_000_000L / speedFactor);
+                long delay = dueNanos - System.nanoTime();
+                if (delay > 0) {
+                    Thread.sleep(delay / 1_000_000L, (int) (delay % 1_000_000L));
+                }
+                launch(f.getType());
+            }
+            logger.log("Programme terminé : " + launched.get() + " vols lancés.");
+        } catch (InterruptedException e) {
+            logger.log("Programme interrompu après " + launched.get() + " vols.");
+        } catch (RuntimeException e) {
+            logger.log("Erreur de lecture du programme : " + e.getMessage());
+        } finally {
+            if (reader instanceof Closeable) {
+                try {
+                    ((Closeable) reader).close();
+                } catch (IOException e) {
+                    logger.log("Erreur à la fermeture du programme : " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    private void launch(FlightType type) {
+        airport.createAndStartPlane(type, speedFactor);
+        launched.incrementAndGet();
+    }
+}
@@ -0,0 +1,78 @@
+package airport.schedule;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Lecture paresseuse d'un programme de vols : une seule ligne est décodée à
+ * l'avance, le programme n'est jamais chargé en entier. Les instants doivent
+ * être croissants.
+ *
+ * Le format est détecté à l'ouverture : binaire compact (voir ScheduleWriter)
+ * s'il commence par l'en-tête « APS1 », CSV sinon.
+ */
+public abstract class ScheduleReader implements Iterator<ScheduledFlight>, Closeable {
+
+    private ScheduledFlight next;
+    private boolean done;
+    private long lastTimeMs = 0;
+    private long count = 0;
+
+    public static ScheduleReader open(Path file) throws IOException {
+        InputStream in = new BufferedInputStream(Files.newInputStream(file), 1 << 16);
+        in.mark(ScheduleWriter.MAGIC.length);
+        byte[] head = in.readNBytes(ScheduleWriter.MAGIC.length);
+        if (Arrays.equals(head, ScheduleWriter.MAGIC)) {
+            return new BinaryScheduleReader(in);
+        }
+        in.reset();
+        return new CsvScheduleReader(in);
+    }
+
+    // Décode la ligne suivante, ou null en fin de fichier
+    protected abstract ScheduledFlight readNext() throws IOException;
+
+    @Override
+    public boolean hasNext() {
+        if (next == null && !done) {
+            try {
+                next = readNext();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            if (next == null) {
+                done = true;
+            } else if (next.getTimeMs() < lastTimeMs) {
+                throw new IllegalStateException("Programme non trié : " + next.getTimeMs()
+                        + " ms après " + lastTimeMs + " ms (vol n°" + (count + 1) + ")");
+            } else {
+                lastTimeMs = next.getTimeMs();
+            }
+        }
+        return next != null;
+    }
+
+    @Override
+    public ScheduledFlight next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        ScheduledFlight f = next;
+        next = null;
+        count++;
+        return f;
+    }
+
+    // Nombre de vols déjà rendus par next()
+    public long getCount() {
+        return count;
+    }
+}
@@ -0,0 +1,106 @@
+package airport.schedule;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.SplittableRandom;
+
+import airport.model.FlightType;
+
+/**
+ * Génère ou convertit des programmes de vols, en flux (mémoire constante).
+ * Le format de sortie suit l'extension : .csv en texte, binaire compact sinon.
+ *
+ * Exemples :
+ *   java -cp bin airport.schedule.ScheduleTool generate vols.aps 5000000 1000 0.6 42
+ *   java -cp bin airport.schedule.ScheduleTool convert vols.csv vols.aps
+ */
+public class ScheduleTool {
+
+    public static void main(String[] args) throws IOException {
+        if (args.length >= 3 && "generate".equals(args[0])) {
+            long flights = Long.parseLong(args[2]);
+            double meanIntervalMs = args.length > 3 ? Double.parseDouble(args[3]) : 1000;
+            double arrivalRatio = args.length > 4 ? Double.parseDouble(args[4]) : 0.5;
+            long seed = args.length > 5 ? Long.parseLong(args[5]) : 42;
+            generate(Path.of(args[1]), flights, meanIntervalMs, arrivalRatio, seed);
+        } else if (args.length == 3 && "convert".equals(args[0])) {
+            convert(Path.of(args[1]), Path.of(args[2]));
+        } else {
+            System.err.println(
+                    "Usage : ScheduleTool generate <sortie> <vols> [intervalle_moyen_ms] [part_arrivées] [graine]\n" +
+                    "        ScheduleTool convert <entrée> <sortie>");
+            System.exit(2);
+        }
+    }
+
+    // Arrivées de Poisson : écarts exponentiels d'intervalle moyen donné
+    private static void generate(Path out, long flights, double meanIntervalMs,
+                                 double arrivalRatio, long seed) throws IOException {
+        SplittableRandom random = new SplittableRandom(seed);
+        double time = 0;
+        try (Sink sink = Sink.open(out)) {
+            for (long k = 0; k < flights; k++) {
+                time += -Math.log(1 - random.nextDouble()) * meanIntervalMs;
+                sink.append((long) time,
+                        random.nextDouble() < arrivalRatio ? FlightType.ARRIVEE : FlightType.DEPART);
+            }
+        }
+        System.out.printf("%,d vols écrits dans %s (%,d octets)%n", flights, out, Files.size(out));
+    }
+
+    private static void convert(Path in, Path out) throws IOException {
+        long n = 0;
+        try (ScheduleReader reader = ScheduleReader.open(in); Sink sink = Sink.open(out)) {
+            while (reader.hasNext()) {
+                ScheduledFlight f = reader.next();
+                sink.append(f.getTimeMs(), f.getType());
+                n++;
+            }
+        }
+        System.out.printf("%,d vols convertis dans %s (%,d octets)%n", n, out, Files.size(out));
+    }
+
+    // Sortie CSV ou binaire selon l'extension du fichier
+    private interface Sink extends Closeable {
+
+        void append(long timeMs, FlightType type) throws IOException;
+
+        static Sink open(Path out) throws IOException {
+            if (!out.toString().toLowerCase(Locale.ROOT).endsWith(".csv")) {
+                ScheduleWriter w = new ScheduleWriter(out);
+                return new Sink() {
+                    @Override
+                    public void append(long timeMs, FlightType type) throws IOException {
+                        w.append(timeMs, type);
+                    }
+
+                    @Override
+                    public void close() throws IOException {
+                        w.close();
+                    }
+                };
+            }
+            BufferedWriter w = Files.newBufferedWriter(out, StandardCharsets.UTF_8);
+            w.write("time_ms,type\n");
+            return new Sink() {
+                @Override
+                public void append(long timeMs, FlightType type) throws IOException {
+                    w.write(Long.toString(timeMs));
+                    w.write(',');
+                    w.write(type.name());
+                    w.write('\n');
+                }
+
+                @Override
+                public void close() throws IOException {
+                    w.close();
+                }
+            };
+        }
+    }
+}
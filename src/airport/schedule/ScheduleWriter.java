@@ -0,0 +1,53 @@
+package airport.schedule;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import airport.model.FlightType;
+
+/**
+ * Écrit un programme au format binaire compact : l'en-tête « APS1 » puis, pour
+ * chaque vol, un varint non signé (écart en ms avec le vol précédent << 1 | type,
+ * 0 = arrivée, 1 = départ). Un vol toutes les quelques secondes tient en 2 octets.
+ */
+public class ScheduleWriter implements Closeable {
+
+    static final byte[] MAGIC = "APS1".getBytes(StandardCharsets.US_ASCII);
+
+    private final OutputStream out;
+    private long lastTimeMs = 0;
+    private long count = 0;
+
+    public ScheduleWriter(Path file) throws IOException {
+        this.out = new BufferedOutputStream(Files.newOutputStream(file), 1 << 16);
+        out.write(MAGIC);
+    }
+
+    public void append(long timeMs, FlightType type) throws IOException {
+        if (timeMs < lastTimeMs) {
+            throw new IllegalArgumentException("Instants non croissants : " + timeMs + " < " + lastTimeMs);
+        }
+        long v = ((timeMs - lastTimeMs) << 1) | (type == FlightType.DEPART ? 1 : 0);
+        while ((v & ~0x7FL) != 0) {
+            out.write((int) (v & 0x7F) | 0x80);
+            v >>>= 7;
+        }
+        out.write((int) v);
+        lastTimeMs = timeMs;
+        count++;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    @Override
+    public void close() throws IOException {
+        out.close();
+    }
+}
@@ -0,0 +1,28 @@
+package airport.schedule;
+
+import airport.model.FlightType;
+
+// Une ligne du programme de vols : instant prévu (ms simulées depuis le début) et type.
+public final class ScheduledFlight {
+
+    private final long timeMs;
+    private final FlightType type;
+
+    public ScheduledFlight(long timeMs, FlightType type) {
+        this.timeMs = timeMs;
+        this.type = type;
+    }
+
+    public long getTimeMs() {
+        return timeMs;
+    }
+
+    public FlightType getType() {
+        return type;
+    }
+
+    @Override
+    public String toString() {
+        return timeMs + "," + type;
+    }
+}
@@ -0,0 +1,404 @@
+package airport.sim;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.PriorityQueue;
+import java.util.function.Consumer;
+
+import airport.core.Airport;
+import airport.model.Airplane;
+import airport.model.AirplaneState;
+import airport.model.FlightType;
+import airport.model.Gate;
+import airport.model.Runway;
+import airport.schedule.ScheduledFlight;
+
+/**
+ * Simulation à événements discrets : une file de priorité d'événements datés
+ * et une horloge virtuelle (ms simulées) qui saute d'un événement au suivant,
+ * sans aucun Thread.sleep.
+ *
+ * Les vols suivent la même machine à états qu'Airplane.run() et passent par
+ * les mêmes méthodes de l'Airport (files, occupation des pistes/portes) ;
+ * l'attente d'une ressource applique les règles des AirportSynchronization :
+ * priorité aux arrivées pour les pistes, portes servies dans l'ordre.
+ * Tout s'exécute dans le thread appelant et les événements simultanés sont
+ * traités dans leur ordre de planification : à graine, configuration et
+ * programme de vols égaux, la séquence d'événements est identique.
+ */
+public class EventSimulation {
+
+    // En dessous, on laisse les annulés dans leur file sans la compacter
+    private static final int COMPACT_MIN = 1024;
+
+    private final Airport airport;
+
+    private final PriorityQueue<SimEvent> events = new PriorityQueue<>();
+    private int cancelledEvents = 0;
+    private long now = 0;
+    private long nextSeq = 0;
+
+    private int freeRunways;
+    private int freeGates;
+    private final WaitQueue landingWaiters = new WaitQueue();
+    private final WaitQueue takeoffWaiters = new WaitQueue();
+    private final WaitQueue gateWaiters = new WaitQueue();
+
+    private long completedFlights = 0;
+    // Appelé à la fin de chaque vol (TERMINE), dans le thread de la simulation
+    private Consumer<Airplane> completionListener;
+
+    public EventSimulation(Airport airport, long seed) {
+        this.airport = airport;
+        airport.setSeed(seed);
+        this.freeRunways = airport.getRunways().size();
+        this.freeGates = airport.getGates().size();
+        airport.setClock(() -> now * 1_000_000L);
+    }
+
+    public long now() {
+        return now;
+    }
+
+    public int pendingEvents() {
+        return events.size() - cancelledEvents;
+    }
+
+    public long getCompletedFlights() {
+        return completedFlights;
+    }
+
+    // Instant du prochain événement, Long.MAX_VALUE si la file est vide
+    public long nextEventTime() {
+        SimEvent e = peekLive();
+        return e == null ? Long.MAX_VALUE : e.time;
+    }
+
+    public void setCompletionListener(Consumer<Airplane> completionListener) {
+        this.completionListener = completionListener;
+    }
+
+    public void schedule(long time, Runnable action) {
+        scheduleEvent(time, action);
+    }
+
+    private SimEvent scheduleEvent(long time, Runnable action) {
+        if (time < now) {
+            throw new IllegalArgumentException("Événement dans le passé : " + time + " < " + now);
+        }
+        SimEvent e = new SimEvent(time, nextSeq++, action);
+        events.add(e);
+        return e;
+    }
+
+    // Retrait paresseux ; le tas n'est reconstruit (O(n)) que lorsque les
+    // événements annulés y sont majoritaires, soit O(1) amorti par annulation.
+    private void cancel(SimEvent e) {
+        e.cancelled = true;
+        cancelledEvents++;
+        if (cancelledEvents > COMPACT_MIN && cancelledEvents > events.size() / 2) {
+            events.removeIf(ev -> ev.cancelled);
+            cancelledEvents = 0;
+        }
+    }
+
+    // Premier événement non annulé, en jetant les annulés rencontrés en tête
+    private SimEvent peekLive() {
+        SimEvent e;
+        while ((e = events.peek()) != null && e.cancelled) {
+            events.poll();
+            cancelledEvents--;
+        }
+        return e;
+    }
+
+    public Airplane scheduleArrival(long time) {
+        Airplane a = airport.createPlane(FlightType.ARRIVEE, 1.0);
+        schedule(time, () -> startArrival(a));
+        return a;
+    }
+
+    // Vol venu d'ailleurs (autre aéroport du réseau) : il se présente en
+    // approche à l'instant donné, sans phase de vol simulée ici.
+    public Airplane scheduleInbound(long time) {
+        Airplane a = airport.createPlane(FlightType.ARRIVEE, 1.0);
+        schedule(time, () -> {
+            a.markStarted();
+            approach(a);
+        });
+        return a;
+    }
+
+    public Airplane scheduleDeparture(long time) {
+        Airplane a = airport.createPlane(FlightType.DEPART, 1.0);
+        schedule(time, () -> startDeparture(a));
+        return a;
+    }
+
+    // Programme lu au fil de l'eau : chaque vol, à son lancement, planifie la
+    // lecture du suivant, donc un seul vol à venir est en mémoire. Un programme
+    // Closeable est fermé une fois épuisé.
+    public void scheduleStream(Iterator<ScheduledFlight> flights, long startTime) {
+        if (!flights.hasNext()) {
+            if (flights instanceof Closeable) {
+                try {
+                    ((Closeable) flights).close();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+            return;
+        }
+        ScheduledFlight f = flights.next();
+        schedule(startTime + f.getTimeMs(), () -> {
+            Airplane a = airport.createPlane(f.getType(), 1.0);
+            if (f.getType() == FlightType.ARRIVEE) {
+                startArrival(a);
+            } else {
+                startDeparture(a);
+            }
+            scheduleStream(flights, startTime);
+        });
+    }
+
+    // --------- Boucle principale ----------
+
+    public boolean step() {
+        SimEvent e = peekLive();
+        if (e == null) {
+            return false;
+        }
+        events.poll();
+        now = e.time;
+        e.action.run();
+        return true;
+    }
+
+    public void runUntil(long time) {
+        SimEvent e;
+        while ((e = peekLive()) != null && e.time <= time) {
+            step();
+        }
+        now = Math.max(now, time);
+    }
+
+    public void run() {
+        while (step()) {
+            // on vide la file
+        }
+    }
+
+    // --------- Arrivée ----------
+
+    private void startArrival(Airplane a) {
+        a.markStarted();
+        a.setState(AirplaneState.EN_VOL);
+        schedule(now + a.drawInFlightMs(), () -> approach(a));
+    }
+
+    private void approach(Airplane a) {
+        a.setState(AirplaneState.ATTENTE_ATTERRISSAGE);
+        airport.addToLandingQueue(a);
+        long since = now;
+        long fuel = airport.getFlightLimits().getFuelBudgetMs();
+        requestRunway(true, () -> land(a, since), fuel, () -> divert(a, since));
+    }
+
+    // Carburant d'attente épuisé
+    private void divert(Airplane a, long since) {
+        airport.recordHolding(a, now - since);
+        airport.removeFromLandingQueue(a);
+        a.setState(AirplaneState.DEROUTE);
+        airport.recordDiversion(a);
+        finish(a);
+    }
+
+    private void land(Airplane a, long since) {
+        airport.recordHolding(a, now - since);
+        Runway r = airport.occupyRunway(a);
+        a.setState(AirplaneState.ATTERRISSAGE);
+        schedule(now + airport.separationMs(r, a) + Airplane.RUNWAY_MS, () -> {
+            airport.freeRunway(r);
+            releaseRunway();
+            a.setState(AirplaneState.ATTENTE_PORTE);
+            requestGate(() -> dockArrival(a), () -> remoteStand(a, () -> {
+                a.setState(AirplaneState.AU_SOL);
+                finish(a);
+            }));
+        });
+    }
+
+    private void dockArrival(Airplane a) {
+        Gate g = airport.occupyGate(a);
+        a.setState(AirplaneState.A_LA_PORTE);
+        schedule(now + Airplane.GATE_MS, () -> {
+            airport.freeGate(g);
+            releaseGate();
+            a.setState(AirplaneState.AU_SOL);
+            finish(a);
+        });
+    }
+
+    // Aucune porte libre à temps : escale plus longue sur un poste éloigné
+    private void remoteStand(Airplane a, Runnable then) {
+        a.setState(AirplaneState.POSTE_ELOIGNE);
+        airport.recordRemoteStand(a);
+        schedule(now + Airplane.REMOTE_STAND_MS, then);
+    }
+
+    // --------- Départ ----------
+
+    private void startDeparture(Airplane a) {
+        a.markStarted();
+        a.setState(AirplaneState.ATTENTE_PORTE);
+        requestGate(() -> dockDeparture(a), () -> remoteStand(a, () -> {
+            a.setState(AirplaneState.ATTENTE_DECOLLAGE);
+            airport.addToTakeoffQueue(a);
+            requestRunway(false, () -> takeOff(a), 0, null);
+        }));
+    }
+
+    private void dockDeparture(Airplane a) {
+        Gate g = airport.occupyGate(a);
+        a.setState(AirplaneState.A_LA_PORTE);
+        schedule(now + Airplane.GATE_MS, () -> {
+            a.setState(AirplaneState.ATTENTE_DECOLLAGE);
+            airport.addToTakeoffQueue(a);
+            airport.freeGate(g);
+            releaseGate();
+            requestRunway(false, () -> takeOff(a), 0, null);
+        });
+    }
+
+    private void takeOff(Airplane a) {
+        Runway r = airport.occupyRunway(a);
+        a.setState(AirplaneState.DECOLLAGE);
+        schedule(now + airport.separationMs(r, a) + Airplane.RUNWAY_MS, () -> {
+            airport.freeRunway(r);
+            releaseRunway();
+            finish(a);
+        });
+    }
+
+    private void finish(Airplane a) {
+        a.setState(AirplaneState.TERMINE);
+        completedFlights++;
+        if (completionListener != null) {
+            completionListener.accept(a);
+        }
+    }
+
+    // --------- Allocation des ressources ----------
+
+    // timeoutMs > 0 : onTimeout est exécuté si la piste n'est pas accordée à temps
+    private void requestRunway(boolean landing, Runnable granted, long timeoutMs, Runnable onTimeout) {
+        // priorité aux arrivées : un départ attend tant qu'une arrivée attend
+        boolean canGo = freeRunways > 0 && (landing || landingWaiters.isEmpty());
+        if (canGo) {
+            freeRunways--;
+            schedule(now, granted);
+            return;
+        }
+        enqueue(landing ? landingWaiters : takeoffWaiters, granted, timeoutMs, onTimeout);
+    }
+
+    // Encore en attente à l'échéance : il est annulé dans sa file et renonce.
+    // Servi avant, c'est son échéance qui est annulée.
+    private void enqueue(WaitQueue queue, Runnable granted, long timeoutMs, Runnable onTimeout) {
+        Waiter w = new Waiter(granted);
+        queue.add(w);
+        if (timeoutMs > 0) {
+            w.timeout = scheduleEvent(now + timeoutMs, () -> {
+                queue.cancel(w);
+                onTimeout.run();
+            });
+        }
+    }
+
+    private void grant(Waiter w) {
+        if (w.timeout != null) {
+            cancel(w.timeout);
+        }
+        schedule(now, w.granted);
+    }
+
+    private void releaseRunway() {
+        freeRunways++;
+        while (freeRunways > 0 && !(landingWaiters.isEmpty() && takeoffWaiters.isEmpty())) {
+            Waiter next = !landingWaiters.isEmpty() ? landingWaiters.poll() : takeoffWaiters.poll();
+            freeRunways--;
+            grant(next);
+        }
+    }
+
+    private void requestGate(Runnable granted, Runnable onTimeout) {
+        if (freeGates > 0) {
+            freeGates--;
+            schedule(now, granted);
+        } else {
+            enqueue(gateWaiters, granted, airport.getFlightLimits().getGateWaitMs(), onTimeout);
+        }
+    }
+
+    private void releaseGate() {
+        freeGates++;
+        while (freeGates > 0 && !gateWaiters.isEmpty()) {
+            freeGates--;
+            grant(gateWaiters.poll());
+        }
+    }
+
+    // Vol en attente d'une ressource
+    private static final class Waiter {
+        final Runnable granted;
+        SimEvent timeout;
+        boolean cancelled;
+
+        Waiter(Runnable granted) {
+            this.granted = granted;
+        }
+    }
+
+    /**
+     * File d'attente FIFO à annulation en O(1) : un vol parti à l'échéance est
+     * seulement marqué, et sauté quand il arrive en tête. La file n'est
+     * compactée que lorsque les annulés y sont majoritaires.
+     */
+    private static final class WaitQueue {
+        private final ArrayDeque<Waiter> waiters = new ArrayDeque<>();
+        private int live;
+
+        void add(Waiter w) {
+            waiters.add(w);
+            live++;
+        }
+
+        boolean isEmpty() {
+            return live == 0;
+        }
+
+        // Premier vol non annulé ; null si aucun
+        Waiter poll() {
+            Waiter w;
+            while ((w = waiters.poll()) != null && w.cancelled) {
+                // déjà parti à l'échéance
+            }
+            if (w != null) {
+                live--;
+            }
+            return w;
+        }
+
+        void cancel(Waiter w) {
+            w.cancelled = true;
+            live--;
+            int cancelled = waiters.size() - live;
+            if (cancelled > COMPACT_MIN && cancelled > live) {
+                waiters.removeIf(x -> x.cancelled);
+            }
+        }
+    }
+}
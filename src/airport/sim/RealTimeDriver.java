@@ -0,0 +1,68 @@
+package airport.sim;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
+
+/**
+ * Fait avancer une EventSimulation au rythme de l'horloge réelle (multipliée
+ * par le facteur de vitesse), pour l'afficher en direct dans la GUI.
+ *
+ * Toute la simulation reste confinée au thread du pilote : les autres threads
+ * ne la modifient qu'en déposant des commandes, exécutées au tick suivant.
+ * La séquence d'événements ne dépend donc que de la graine et des commandes.
+ */
+public class RealTimeDriver {
+
+    private static final long TICK_MS = 10;
+
+    private final EventSimulation sim;
+    private final ConcurrentLinkedQueue<Consumer<EventSimulation>> commands = new ConcurrentLinkedQueue<>();
+    private final Thread thread;
+    private volatile double speedFactor;
+    private volatile boolean running = true;
+
+    public RealTimeDriver(EventSimulation sim, double speedFactor) {
+        this.sim = sim;
+        this.speedFactor = speedFactor;
+        this.thread = new Thread(this::loop, "sim-driver");
+        this.thread.setDaemon(true);
+    }
+
+    public void start() {
+        thread.start();
+    }
+
+    public void stop() {
+        running = false;
+        thread.interrupt();
+    }
+
+    public void setSpeedFactor(double speedFactor) {
+        this.speedFactor = speedFactor;
+    }
+
+    // Exécutée dans le thread du pilote, avant l'avancée du tick suivant
+    public void submit(Consumer<EventSimulation> command) {
+        commands.add(command);
+    }
+
+    private void loop() {
+        long lastReal = System.nanoTime();
+        double virtualMs = sim.now();
+        while (running) {
+            Consumer<EventSimulation> c;
+            while ((c = commands.poll()) != null) {
+                c.accept(sim);
+            }
+            long real = System.nanoTime();
+            virtualMs += (real - lastReal) / 1e6 * speedFactor;
+            lastReal = real;
+            sim.runUntil((long) virtualMs);
+            try {
+                Thread.sleep(TICK_MS);
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+    }
+}
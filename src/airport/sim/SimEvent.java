@@ -0,0 +1,25 @@
+package airport.sim;
+
+// Événement daté ; à date égale, l'ordre de planification départage (seq).
+final class SimEvent implements Comparable<SimEvent> {
+
+    final long time;
+    final long seq;
+    final Runnable action;
+    // Annulé : ignoré quand il sort de la file (retrait paresseux)
+    boolean cancelled;
+
+    SimEvent(long time, long seq, Runnable action) {
+        this.time = time;
+        this.seq = seq;
+        this.action = action;
+    }
+
+    @Override
+    public int compareTo(SimEvent o) {
+        if (time != o.time) {
+            return Long.compare(time, o.time);
+        }
+        return Long.compare(seq, o.seq);
+    }
+}
@@ -1,5 +1,9 @@
 package airport.sync;
 
+import java.util.concurrent.TimeUnit;
+
+import airport.model.Airplane;
+
 public interface AirportSynchronization {
 
     void requestRunwayForLanding() throws InterruptedException;
@@ -11,4 +15,42 @@ public interface AirportSynchronization {
     void requestGate() throws InterruptedException;
 
     void releaseGate();
-}
\ No newline at end of file
+
+    // Variantes avec délai : false si la ressource n'est pas obtenue avant
+    // l'échéance, auquel cas l'appelant ne détient rien.
+
+    boolean tryRequestRunwayForLanding(long timeout, TimeUnit unit) throws InterruptedException;
+
+    boolean tryRequestGate(long timeout, TimeUnit unit) throws InterruptedException;
+
+    // Variantes qui connaissent l'avion (catégorie de sillage...), pour les
+    // politiques qui ordonnent les mouvements ; par défaut l'avion est ignoré.
+
+    default void requestRunwayForLanding(Airplane a) throws InterruptedException {
+        requestRunwayForLanding();
+    }
+
+    default boolean tryRequestRunwayForLanding(Airplane a, long timeout, TimeUnit unit)
+            throws InterruptedException {
+        return tryRequestRunwayForLanding(timeout, unit);
+    }
+
+    default void requestRunwayForTakeoff(Airplane a) throws InterruptedException {
+        requestRunwayForTakeoff();
+    }
+
+    default void releaseRunway(Airplane a) {
+        releaseRunway();
+    }
+
+    // Politiques qui choisissent la piste elles-mêmes : indice (0..n-1) de la
+    // piste attribuée à a par sa dernière demande, -1 si l'Airport choisit.
+    default int assignedRunway(Airplane a) {
+        return -1;
+    }
+
+    // Libération d'une piste précise (indice), pour ces mêmes politiques
+    default void releaseRunway(Airplane a, int runway) {
+        releaseRunway(a);
+    }
+}
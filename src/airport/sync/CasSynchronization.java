@@ -0,0 +1,195 @@
+package airport.sync;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Version sans verrou : les pistes et portes libres sont des compteurs
+ * atomiques pris par CAS. Un avion ne se « parke » que si aucune ressource
+ * n'est libre ; il s'inscrit alors dans une file d'attente avant de revérifier
+ * le compteur, ce qui évite les réveils perdus.
+ *
+ * Priorité aux arrivées : un départ ne prend une piste que si aucune arrivée
+ * n'est inscrite en attente, et la libération réveille d'abord les arrivées.
+ */
+public class CasSynchronization implements AirportSynchronization {
+
+    private final AtomicInteger freeRunways;
+    private final AtomicInteger freeGates;
+
+    private final AtomicInteger waitingLandingRunway = new AtomicInteger(); // utilisé pour la priorité
+
+    private final ConcurrentLinkedQueue<Thread> landingWaiters = new ConcurrentLinkedQueue<>();
+    private final ConcurrentLinkedQueue<Thread> takeoffWaiters = new ConcurrentLinkedQueue<>();
+    private final ConcurrentLinkedQueue<Thread> gateWaiters = new ConcurrentLinkedQueue<>();
+
+    public CasSynchronization(int runways, int gates) {
+        this.freeRunways = new AtomicInteger(runways);
+        this.freeGates = new AtomicInteger(gates);
+    }
+
+    private static boolean tryTake(AtomicInteger free) {
+        int n;
+        while ((n = free.get()) > 0) {
+            if (free.compareAndSet(n, n - 1)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void requestRunwayForLanding() throws InterruptedException {
+        if (tryTake(freeRunways)) {
+            return;
+        }
+        waitingLandingRunway.incrementAndGet();
+        Thread me = Thread.currentThread();
+        landingWaiters.add(me);
+        try {
+            while (!tryTake(freeRunways)) {
+                parkInterruptibly();
+            }
+        } finally {
+            landingWaiters.remove(me);
+            waitingLandingRunway.decrementAndGet();
+            // une piste restée libre, ou des départs qui peuvent maintenant passer
+            wakeRunwayWaiter();
+        }
+    }
+
+    @Override
+    public boolean tryRequestRunwayForLanding(long timeout, TimeUnit unit) throws InterruptedException {
+        if (tryTake(freeRunways)) {
+            return true;
+        }
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        waitingLandingRunway.incrementAndGet();
+        Thread me = Thread.currentThread();
+        landingWaiters.add(me);
+        try {
+            while (!tryTake(freeRunways)) {
+                long left = deadline - System.nanoTime();
+                if (left <= 0) {
+                    return false;
+                }
+                parkInterruptibly(left);
+            }
+            return true;
+        } finally {
+            landingWaiters.remove(me);
+            waitingLandingRunway.decrementAndGet();
+            wakeRunwayWaiter();
+        }
+    }
+
+    @Override
+    public void requestRunwayForTakeoff() throws InterruptedException {
+        if (waitingLandingRunway.get() == 0 && tryTake(freeRunways)) {
+            return;
+        }
+        Thread me = Thread.currentThread();
+        takeoffWaiters.add(me);
+        try {
+            while (!(waitingLandingRunway.get() == 0 && tryTake(freeRunways))) {
+                parkInterruptibly();
+            }
+        } finally {
+            takeoffWaiters.remove(me);
+            wakeRunwayWaiter();
+        }
+    }
+
+    @Override
+    public void releaseRunway() {
+        freeRunways.incrementAndGet();
+        wakeRunwayWaiter();
+    }
+
+    @Override
+    public void requestGate() throws InterruptedException {
+        if (tryTake(freeGates)) {
+            return;
+        }
+        Thread me = Thread.currentThread();
+        gateWaiters.add(me);
+        try {
+            while (!tryTake(freeGates)) {
+                parkInterruptibly();
+            }
+        } finally {
+            gateWaiters.remove(me);
+            wakeGateWaiter();
+        }
+    }
+
+    @Override
+    public boolean tryRequestGate(long timeout, TimeUnit unit) throws InterruptedException {
+        if (tryTake(freeGates)) {
+            return true;
+        }
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        Thread me = Thread.currentThread();
+        gateWaiters.add(me);
+        try {
+            while (!tryTake(freeGates)) {
+                long left = deadline - System.nanoTime();
+                if (left <= 0) {
+                    return false;
+                }
+                parkInterruptibly(left);
+            }
+            return true;
+        } finally {
+            gateWaiters.remove(me);
+            wakeGateWaiter();
+        }
+    }
+
+    @Override
+    public void releaseGate() {
+        freeGates.incrementAndGet();
+        wakeGateWaiter();
+    }
+
+    private void parkInterruptibly() throws InterruptedException {
+        LockSupport.park(this);
+        if (Thread.interrupted()) {
+            throw new InterruptedException();
+        }
+    }
+
+    private void parkInterruptibly(long nanos) throws InterruptedException {
+        LockSupport.parkNanos(this, nanos);
+        if (Thread.interrupted()) {
+            throw new InterruptedException();
+        }
+    }
+
+    // Réveille un seul candidat ; s'il reste une ressource après son passage,
+    // il réveille à son tour le suivant (voir les blocs finally).
+    private void wakeRunwayWaiter() {
+        if (freeRunways.get() == 0) {
+            return;
+        }
+        Thread next = landingWaiters.peek();
+        if (next == null && waitingLandingRunway.get() == 0) {
+            next = takeoffWaiters.peek();
+        }
+        if (next != null) {
+            LockSupport.unpark(next);
+        }
+    }
+
+    private void wakeGateWaiter() {
+        if (freeGates.get() == 0) {
+            return;
+        }
+        Thread next = gateWaiters.peek();
+        if (next != null) {
+            LockSupport.unpark(next);
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package airport.sync;
+
+// Stratégie instrumentée : ses compteurs de contention sont consultables.
+public interface ContentionProfiled {
+
+    ContentionStats getContentionStats();
+}
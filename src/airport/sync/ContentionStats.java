@@ -0,0 +1,174 @@
+package airport.sync;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Compteurs de contention d'une stratégie de synchronisation : attente pour
+ * entrer dans la section critique (monitor, verrou, mutex), durée de détention,
+ * attente de la ressource elle-même, réveils et réveils inutiles (un waiter
+ * réveillé par notifyAll/signalAll qui se rendort aussitôt). Une attente
+ * bornée qui arrive à échéance n'est pas un réveil ; un réveil intempestif
+ * (sans notify) ne se distingue pas d'un réveil inutile.
+ *
+ * Les LongAdder rendent l'enregistrement quasi gratuit sous contention ; un
+ * Snapshot fige les valeurs pour l'affichage ou pour calculer des écarts.
+ */
+public class ContentionStats {
+
+    private final LongAdder lockEntries = new LongAdder();
+    private final LongAdder lockWaitNanos = new LongAdder();
+    private final LongAdder holdNanos = new LongAdder();
+    private final LongAdder resourceWaits = new LongAdder();
+    private final LongAdder resourceWaitNanos = new LongAdder();
+    private final LongAdder wakeups = new LongAdder();
+    private final LongAdder futileWakeups = new LongAdder();
+
+    // Entrée dans la section critique demandée à requestedAt ; retourne l'instant d'entrée
+    public long entered(long requestedAt) {
+        long now = System.nanoTime();
+        lockEntries.increment();
+        lockWaitNanos.add(now - requestedAt);
+        return now;
+    }
+
+    // Sortie de la section critique entrée (ou reprise) à heldSince
+    public void exited(long heldSince) {
+        holdNanos.add(System.nanoTime() - heldSince);
+    }
+
+    // Mise en attente de la ressource : le verrou est rendu ; retourne le début de l'attente
+    public long beforeWait(long heldSince) {
+        long now = System.nanoTime();
+        holdNanos.add(now - heldSince);
+        return now;
+    }
+
+    // Fin d'attente (verrou repris), par réveil ou échéance ; retourne le
+    // nouvel instant de reprise du verrou
+    public long afterWait(long waitStart, boolean timedOut) {
+        long now = System.nanoTime();
+        if (!timedOut) {
+            wakeups.increment();
+        }
+        resourceWaitNanos.add(now - waitStart);
+        return now;
+    }
+
+    // Réveillé (et non arrivé à échéance), mais la condition est toujours
+    // fausse : retour en attente
+    public void futileWakeup() {
+        futileWakeups.increment();
+    }
+
+    // Attente de la ressource hors section critique (files de sémaphores)
+    public void resourceWaitStarted() {
+        resourceWaits.increment();
+    }
+
+    public void resourceWaited(long waitStart) {
+        resourceWaitNanos.add(System.nanoTime() - waitStart);
+        wakeups.increment();
+    }
+
+    public void reset() {
+        lockEntries.reset();
+        lockWaitNanos.reset();
+        holdNanos.reset();
+        resourceWaits.reset();
+        resourceWaitNanos.reset();
+        wakeups.reset();
+        futileWakeups.reset();
+    }
+
+    public Snapshot snapshot() {
+        return new Snapshot(System.nanoTime(), lockEntries.sum(), lockWaitNanos.sum(), holdNanos.sum(),
+                resourceWaits.sum(), resourceWaitNanos.sum(), wakeups.sum(), futileWakeups.sum());
+    }
+
+    /** Valeurs figées des compteurs ; minus() donne l'activité sur un intervalle. */
+    public static final class Snapshot {
+
+        public static final Snapshot EMPTY = new Snapshot(0, 0, 0, 0, 0, 0, 0, 0);
+
+        private final long takenAt;
+        private final long lockEntries;
+        private final long lockWaitNanos;
+        private final long holdNanos;
+        private final long resourceWaits;
+        private final long resourceWaitNanos;
+        private final long wakeups;
+        private final long futileWakeups;
+
+        Snapshot(long takenAt, long lockEntries, long lockWaitNanos, long holdNanos,
+                 long resourceWaits, long resourceWaitNanos, long wakeups, long futileWakeups) {
+            this.takenAt = takenAt;
+            this.lockEntries = lockEntries;
+            this.lockWaitNanos = lockWaitNanos;
+            this.holdNanos = holdNanos;
+            this.resourceWaits = resourceWaits;
+            this.resourceWaitNanos = resourceWaitNanos;
+            this.wakeups = wakeups;
+            this.futileWakeups = futileWakeups;
+        }
+
+        public Snapshot minus(Snapshot before) {
+            return new Snapshot(takenAt - before.takenAt,
+                    lockEntries - before.lockEntries, lockWaitNanos - before.lockWaitNanos,
+                    holdNanos - before.holdNanos, resourceWaits - before.resourceWaits,
+                    resourceWaitNanos - before.resourceWaitNanos, wakeups - before.wakeups,
+                    futileWakeups - before.futileWakeups);
+        }
+
+        public long getTakenAt() {
+            return takenAt;
+        }
+
+        public long getLockEntries() {
+            return lockEntries;
+        }
+
+        public long getLockWaitNanos() {
+            return lockWaitNanos;
+        }
+
+        public long getHoldNanos() {
+            return holdNanos;
+        }
+
+        public long getResourceWaits() {
+            return resourceWaits;
+        }
+
+        public long getResourceWaitNanos() {
+            return resourceWaitNanos;
+        }
+
+        public long getWakeups() {
+            return wakeups;
+        }
+
+        public long getFutileWakeups() {
+            return futileWakeups;
+        }
+
+        public double getMeanLockWaitNanos() {
+            return lockEntries == 0 ? 0 : (double) lockWaitNanos / lockEntries;
+        }
+
+        public double getMeanHoldNanos() {
+            return lockEntries == 0 ? 0 : (double) holdNanos / lockEntries;
+        }
+
+        public double getFutileWakeupRatio() {
+            return wakeups == 0 ? 0 : (double) futileWakeups / wakeups;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("entrées %d | attente verrou moy. %.0f ns | détention moy. %.0f ns | "
+                            + "attente ressource %.1f ms | réveils %d (inutiles %d, %.0f %%)",
+                    lockEntries, getMeanLockWaitNanos(), getMeanHoldNanos(),
+                    resourceWaitNanos / 1e6, wakeups, futileWakeups, getFutileWakeupRatio() * 100);
+        }
+    }
+}
@@ -0,0 +1,416 @@
+package airport.sync;
+
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import airport.model.Airplane;
+
+/**
+ * Enveloppe qui permet de changer de stratégie de synchronisation à chaud,
+ * sans perdre les avions en cours.
+ *
+ * Les pistes et portes détenues sont comptées ici : la nouvelle stratégie
+ * est créée avec seulement les ressources libres, et les libérations vont
+ * toujours à la stratégie courante.
+ *
+ * À la bascule, chaque avion en attente dans l'ancienne stratégie est
+ * réveillé une seule fois, par une interruption marquée comme telle, et
+ * passe dans une file de reprise triée par ordre d'arrivée d'origine. Les
+ * repris d'un même type redemandent à la nouvelle stratégie un par un, dans
+ * cet ordre, avant toute nouvelle demande de ce type ; aucun départ (repris
+ * ou nouveau) ne passe tant qu'une arrivée reprise attend. Une ressource
+ * obtenue de l'ancienne stratégie après la bascule est caduque : l'avion
+ * rejoint la reprise à son rang.
+ *
+ * Limite : une interruption réelle (arrêt des vols) qui tombe au même
+ * instant que celle de la bascule se confond avec elle.
+ */
+public class HotSwapSynchronization implements AirportSynchronization {
+
+    private enum Kind { LANDING, TAKEOFF, GATE }
+
+    private static final class Generation {
+        final SyncStrategy strategy;
+        final AirportSynchronization delegate;
+        // Avions en train de demander une ressource à cette génération
+        final Set<Waiter> waiters = ConcurrentHashMap.newKeySet();
+
+        Generation(SyncStrategy strategy, AirportSynchronization delegate) {
+            this.strategy = strategy;
+            this.delegate = delegate;
+        }
+    }
+
+    private static final class Waiter {
+        final Thread thread = Thread.currentThread();
+        final Kind kind;
+        // rang d'arrivée, conservé d'une génération à l'autre
+        final long ticket;
+        // sous le moniteur du Waiter : génération où il attend, et celle
+        // dont une bascule l'a retiré
+        Generation in;
+        Generation migratedFrom;
+        // sous le moniteur de la file de reprise
+        boolean queued;
+
+        Waiter(Kind kind, long ticket) {
+            this.kind = kind;
+            this.ticket = ticket;
+        }
+    }
+
+    private final int runways;
+    private final int gates;
+
+    private volatile Generation current;
+
+    // Validation d'une acquisition et libération en lecture, bascule en écriture :
+    // le décompte des ressources détenues est exact au moment de la bascule.
+    private final ReadWriteLock swapLock = new ReentrantReadWriteLock();
+    // modifiés sous verrou en lecture, donc concurremment : atomiques
+    private final AtomicInteger heldRunwaysCount = new AtomicInteger();
+    private final AtomicInteger heldGatesCount = new AtomicInteger();
+
+    private final AtomicLong tickets = new AtomicLong();
+
+    // File de reprise, une par type, sous son propre moniteur (resume)
+    private final Object resume = new Object();
+    private final Map<Kind, PriorityQueue<Waiter>> resuming = new EnumMap<>(Kind.class);
+    private int swapping = 0;
+    // Repris en file + bascules en cours : à 0, aucune demande ne passe par le moniteur
+    private volatile int resumePending = 0;
+
+    private final AtomicLong swaps = new AtomicLong();
+    private final AtomicLong migratedWaiters = new AtomicLong();
+
+    public HotSwapSynchronization(SyncStrategy strategy, int runways, int gates) {
+        this.runways = runways;
+        this.gates = gates;
+        this.current = new Generation(strategy, strategy.create(runways, gates));
+        for (Kind k : Kind.values()) {
+            resuming.put(k, new PriorityQueue<>(Comparator.comparingLong((Waiter w) -> w.ticket)));
+        }
+    }
+
+    public SyncStrategy getStrategy() {
+        return current.strategy;
+    }
+
+    public AirportSynchronization getDelegate() {
+        return current.delegate;
+    }
+
+    public long getSwapCount() {
+        return swaps.get();
+    }
+
+    // Avions sortis d'une ancienne stratégie et redirigés vers la nouvelle
+    public long getMigratedWaiters() {
+        return migratedWaiters.get();
+    }
+
+    // Pistes et portes accordées et pas encore rendues
+    public int getHeldRunways() {
+        return heldRunwaysCount.get();
+    }
+
+    public int getHeldGates() {
+        return heldGatesCount.get();
+    }
+
+    /**
+     * Remplace la stratégie courante. Retourne le nombre d'avions qui
+     * attendaient dans l'ancienne et vont être transférés.
+     */
+    public int swap(SyncStrategy strategy) {
+        int moved = 0;
+        swapLock.writeLock().lock();
+        try {
+            Generation old = current;
+            if (old.strategy == strategy) {
+                return 0;
+            }
+            // avant de publier la génération : les nouvelles demandes attendent la reprise
+            synchronized (resume) {
+                swapping++;
+                resumePending++;
+            }
+            try {
+                AirportSynchronization next = strategy.create(
+                        runways, gates, heldRunwaysCount.get(), heldGatesCount.get());
+                current = new Generation(strategy, next);
+                swaps.incrementAndGet();
+                for (Waiter w : old.waiters) {
+                    synchronized (w) {
+                        if (w.in == old) {
+                            w.migratedFrom = old;
+                            enqueue(w);
+                            w.thread.interrupt();
+                            moved++;
+                        }
+                    }
+                }
+            } finally {
+                synchronized (resume) {
+                    swapping--;
+                    resumePending--;
+                    resume.notifyAll();
+                }
+            }
+        } finally {
+            swapLock.writeLock().unlock();
+        }
+        return moved;
+    }
+
+    // --------- File de reprise ----------
+
+    private void enqueue(Waiter w) {
+        synchronized (resume) {
+            if (!w.queued) {
+                w.queued = true;
+                resuming.get(w.kind).add(w);
+                resumePending++;
+            }
+        }
+    }
+
+    private void leave(Waiter w) {
+        synchronized (resume) {
+            if (w.queued) {
+                w.queued = false;
+                resuming.get(w.kind).remove(w);
+                resumePending--;
+                resume.notifyAll();
+            }
+        }
+    }
+
+    // Sous le moniteur resume : un repris passe en tête de sa file, une
+    // nouvelle demande quand sa file est vide ; un départ attend les arrivées reprises
+    private boolean mayProceed(Waiter w) {
+        if (swapping > 0) {
+            return false;
+        }
+        PriorityQueue<Waiter> q = resuming.get(w.kind);
+        if (w.queued ? q.peek() != w : !q.isEmpty()) {
+            return false;
+        }
+        return w.kind != Kind.TAKEOFF || resuming.get(Kind.LANDING).isEmpty();
+    }
+
+    // false si l'échéance passe avant son tour
+    private boolean awaitTurn(Waiter w, long deadline) throws InterruptedException {
+        if (resumePending == 0) {
+            return true;
+        }
+        synchronized (resume) {
+            try {
+                while (!mayProceed(w)) {
+                    if (deadline == Long.MAX_VALUE) {
+                        resume.wait();
+                    } else {
+                        long left = deadline - System.nanoTime();
+                        if (left <= 0) {
+                            leave(w);
+                            return false;
+                        }
+                        TimeUnit.NANOSECONDS.timedWait(resume, left);
+                    }
+                }
+                return true;
+            } catch (InterruptedException e) {
+                leave(w);
+                throw e;
+            }
+        }
+    }
+
+    // --------- Acquisition et libération ----------
+
+    private interface Request {
+        // nanos : temps restant avant l'échéance (ignoré sans échéance)
+        boolean call(AirportSynchronization sync, long nanos) throws InterruptedException;
+    }
+
+    // deadline = Long.MAX_VALUE : pas d'échéance
+    private boolean acquire(Kind kind, Request request, AtomicInteger held, long deadline)
+            throws InterruptedException {
+        Waiter w = new Waiter(kind, tickets.getAndIncrement());
+        while (true) {
+            if (!awaitTurn(w, deadline)) {
+                return false;
+            }
+            Generation g = current;
+            synchronized (w) {
+                w.in = g;
+            }
+            g.waiters.add(w);
+            boolean called = false;
+            boolean granted = false;
+            InterruptedException interrupted = null;
+            try {
+                // une bascule a pu avoir lieu entre la lecture et l'inscription
+                if (g == current) {
+                    called = true;
+                    long left = deadline == Long.MAX_VALUE ? Long.MAX_VALUE : deadline - System.nanoTime();
+                    granted = request.call(g.delegate, Math.max(0, left));
+                }
+            } catch (InterruptedException e) {
+                interrupted = e;
+            } finally {
+                g.waiters.remove(w);
+            }
+            boolean migrated;
+            synchronized (w) {
+                w.in = null;
+                migrated = w.migratedFrom == g;
+            }
+            if (migrated) {
+                // réveil de bascule (la bascule nous a déjà mis en reprise) ;
+                // s'il n'a pas été consommé par une exception, on l'efface
+                if (interrupted == null) {
+                    Thread.interrupted();
+                }
+                migratedWaiters.incrementAndGet();
+                continue;
+            }
+            if (interrupted != null) {
+                leave(w);
+                throw interrupted;
+            }
+            if (!called) {
+                continue;
+            }
+            if (!granted) {
+                leave(w);
+                return false;
+            }
+            swapLock.readLock().lock();
+            try {
+                if (g == current) {
+                    held.incrementAndGet();
+                    leave(w);
+                    return true;
+                }
+            } finally {
+                swapLock.readLock().unlock();
+            }
+            // ressource obtenue d'une génération abandonnée : on reprend à son rang
+            enqueue(w);
+            migratedWaiters.incrementAndGet();
+        }
+    }
+
+    private void acquire(Kind kind, Request request, AtomicInteger held) throws InterruptedException {
+        acquire(kind, request, held, Long.MAX_VALUE);
+    }
+
+    // runwayIndex : piste libérée, -1 si inconnue (ou s'il s'agit d'une porte)
+    private void release(AtomicInteger held, boolean runway, Airplane a, int runwayIndex) {
+        swapLock.readLock().lock();
+        try {
+            held.decrementAndGet();
+            if (runway) {
+                current.delegate.releaseRunway(a, runwayIndex);
+            } else {
+                current.delegate.releaseGate();
+            }
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void requestRunwayForLanding() throws InterruptedException {
+        requestRunwayForLanding(null);
+    }
+
+    @Override
+    public void requestRunwayForLanding(Airplane a) throws InterruptedException {
+        acquire(Kind.LANDING, (sync, nanos) -> {
+            sync.requestRunwayForLanding(a);
+            return true;
+        }, heldRunwaysCount);
+    }
+
+    @Override
+    public boolean tryRequestRunwayForLanding(long timeout, TimeUnit unit) throws InterruptedException {
+        return tryRequestRunwayForLanding(null, timeout, unit);
+    }
+
+    @Override
+    public boolean tryRequestRunwayForLanding(Airplane a, long timeout, TimeUnit unit)
+            throws InterruptedException {
+        return acquire(Kind.LANDING,
+                (sync, nanos) -> sync.tryRequestRunwayForLanding(a, nanos, TimeUnit.NANOSECONDS),
+                heldRunwaysCount, deadline(timeout, unit));
+    }
+
+    private static long deadline(long timeout, TimeUnit unit) {
+        return System.nanoTime() + Math.min(unit.toNanos(timeout), Long.MAX_VALUE / 4);
+    }
+
+    @Override
+    public void requestRunwayForTakeoff() throws InterruptedException {
+        requestRunwayForTakeoff(null);
+    }
+
+    @Override
+    public void requestRunwayForTakeoff(Airplane a) throws InterruptedException {
+        acquire(Kind.TAKEOFF, (sync, nanos) -> {
+            sync.requestRunwayForTakeoff(a);
+            return true;
+        }, heldRunwaysCount);
+    }
+
+    @Override
+    public void releaseRunway() {
+        releaseRunway(null);
+    }
+
+    @Override
+    public void releaseRunway(Airplane a) {
+        release(heldRunwaysCount, true, a, -1);
+    }
+
+    @Override
+    public void releaseRunway(Airplane a, int runway) {
+        release(heldRunwaysCount, true, a, runway);
+    }
+
+    // Piste choisie par la stratégie courante ; après une bascule, l'ancienne
+    // attribution est perdue et l'Airport choisit lui-même
+    @Override
+    public int assignedRunway(Airplane a) {
+        return current.delegate.assignedRunway(a);
+    }
+
+    @Override
+    public void requestGate() throws InterruptedException {
+        acquire(Kind.GATE, (sync, nanos) -> {
+            sync.requestGate();
+            return true;
+        }, heldGatesCount);
+    }
+
+    @Override
+    public boolean tryRequestGate(long timeout, TimeUnit unit) throws InterruptedException {
+        return acquire(Kind.GATE, (sync, nanos) -> sync.tryRequestGate(nanos, TimeUnit.NANOSECONDS),
+                heldGatesCount, deadline(timeout, unit));
+    }
+
+    @Override
+    public void releaseGate() {
+        release(heldGatesCount, false, null, -1);
+    }
+}
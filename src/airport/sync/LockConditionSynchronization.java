@@ -1,9 +1,10 @@
 package airport.sync;
 
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.ReentrantLock;
 
-public class LockConditionSynchronization implements AirportSynchronization {
+public class LockConditionSynchronization implements AirportSynchronization, ContentionProfiled {
 
     private final ReentrantLock lock = new ReentrantLock(true);
     private final Condition runwayCond = lock.newCondition();
@@ -14,75 +15,172 @@ public class LockConditionSynchronization implements AirportSynchronization {
 
     private int waitingLandingRunway = 0; // utilisé pour priorité
 
+    // Mesures de contention : lock(), détention, await()
+    private final ContentionStats stats = new ContentionStats();
+
     public LockConditionSynchronization(int runways, int gates) {
         this.freeRunways = runways;
         this.freeGates = gates;
     }
 
     @Override
-    public void requestRunwayForLanding() throws InterruptedException {
+    public ContentionStats getContentionStats() {
+        return stats;
+    }
+
+    // lock() instrumenté : retourne l'instant d'entrée
+    private long lockMeasured() {
+        long t0 = System.nanoTime();
         lock.lock();
+        return stats.entered(t0);
+    }
+
+    private void unlockMeasured(long heldSince) {
+        stats.exited(heldSince);
+        lock.unlock();
+    }
+
+    // await() instrumenté ; nanos < 0 : sans échéance. Retourne le temps
+    // restant (awaitNanos) et met à jour held[0], l'instant de reprise.
+    private long awaitMeasured(Condition cond, long[] held, boolean firstWait, long nanos)
+            throws InterruptedException {
+        if (firstWait) {
+            stats.resourceWaitStarted();
+        } else {
+            stats.futileWakeup();
+        }
+        long waitStart = stats.beforeWait(held[0]);
+        long left = -1;
+        try {
+            if (nanos >= 0) {
+                left = cond.awaitNanos(nanos);
+            } else {
+                cond.await();
+            }
+            return left;
+        } finally {
+            // awaitNanos <= 0 : échéance atteinte, pas un réveil
+            held[0] = stats.afterWait(waitStart, nanos >= 0 && left <= 0);
+        }
+    }
+
+    @Override
+    public void requestRunwayForLanding() throws InterruptedException {
+        long[] held = { lockMeasured() };
         try {
             waitingLandingRunway++;
             try {
+                boolean first = true;
                 while (freeRunways == 0) {
-                    runwayCond.await();
+                    awaitMeasured(runwayCond, held, first, -1);
+                    first = false;
                 }
                 freeRunways--;
             } finally {
                 waitingLandingRunway--;
             }
         } finally {
-            lock.unlock();
+            unlockMeasured(held[0]);
+        }
+    }
+
+    @Override
+    public boolean tryRequestRunwayForLanding(long timeout, TimeUnit unit) throws InterruptedException {
+        long left = unit.toNanos(timeout);
+        long[] held = { lockMeasured() };
+        try {
+            waitingLandingRunway++;
+            try {
+                boolean first = true;
+                while (freeRunways == 0) {
+                    if (left <= 0) {
+                        // les départs retenus par notre priorité peuvent repasser
+                        runwayCond.signalAll();
+                        return false;
+                    }
+                    left = awaitMeasured(runwayCond, held, first, left);
+                    first = false;
+                }
+                freeRunways--;
+                return true;
+            } finally {
+                waitingLandingRunway--;
+            }
+        } finally {
+            unlockMeasured(held[0]);
         }
     }
 
     @Override
     public void requestRunwayForTakeoff() throws InterruptedException {
-        lock.lock();
+        long[] held = { lockMeasured() };
         try {
             // priorité aux arrivées
+            boolean first = true;
             while (freeRunways == 0 || waitingLandingRunway > 0) {
-                runwayCond.await();
+                awaitMeasured(runwayCond, held, first, -1);
+                first = false;
             }
             freeRunways--;
         } finally {
-            lock.unlock();
+            unlockMeasured(held[0]);
         }
     }
 
     @Override
     public void releaseRunway() {
-        lock.lock();
+        long held = lockMeasured();
         try {
             freeRunways++;
             runwayCond.signalAll();
         } finally {
-            lock.unlock();
+            unlockMeasured(held);
         }
     }
 
     @Override
     public void requestGate() throws InterruptedException {
-        lock.lock();
+        long[] held = { lockMeasured() };
         try {
+            boolean first = true;
             while (freeGates == 0) {
-                gateCond.await();
+                awaitMeasured(gateCond, held, first, -1);
+                first = false;
             }
             freeGates--;
         } finally {
-            lock.unlock();
+            unlockMeasured(held[0]);
+        }
+    }
+
+    @Override
+    public boolean tryRequestGate(long timeout, TimeUnit unit) throws InterruptedException {
+        long left = unit.toNanos(timeout);
+        long[] held = { lockMeasured() };
+        try {
+            boolean first = true;
+            while (freeGates == 0) {
+                if (left <= 0) {
+                    return false;
+                }
+                left = awaitMeasured(gateCond, held, first, left);
+                first = false;
+            }
+            freeGates--;
+            return true;
+        } finally {
+            unlockMeasured(held[0]);
         }
     }
 
     @Override
     public void releaseGate() {
-        lock.lock();
+        long held = lockMeasured();
         try {
             freeGates++;
             gateCond.signalAll();
         } finally {
-            lock.unlock();
+            unlockMeasured(held);
         }
     }
-}
\ No newline at end of file
+}
@@ -1,57 +1,183 @@
 package airport.sync;
 
-public class MonitorSynchronization implements AirportSynchronization {
+import java.util.concurrent.TimeUnit;
+
+public class MonitorSynchronization implements AirportSynchronization, ContentionProfiled {
 
     private int freeRunways;
     private int freeGates;
 
     private int waitingLandingRunway = 0; // utilisé pour la priorité
 
+    // Mesures de contention : entrée dans le monitor, détention, wait()
+    private final ContentionStats stats = new ContentionStats();
+
     public MonitorSynchronization(int runways, int gates) {
         this.freeRunways = runways;
         this.freeGates = gates;
     }
 
     @Override
-    public synchronized void requestRunwayForLanding() throws InterruptedException {
-        waitingLandingRunway++;
+    public ContentionStats getContentionStats() {
+        return stats;
+    }
+
+    // wait() instrumenté : met à jour held[0], l'instant de reprise du monitor,
+    // même si l'attente est interrompue (sinon elle compterait comme détention).
+    // Retourne false si l'attente bornée est arrivée à échéance.
+    private boolean waitMeasured(long[] held, boolean firstWait, long timeoutNanos) throws InterruptedException {
+        if (firstWait) {
+            stats.resourceWaitStarted();
+        } else {
+            stats.futileWakeup();
+        }
+        long waitStart = stats.beforeWait(held[0]);
+        boolean timedOut = false;
         try {
-            while (freeRunways == 0) {
+            if (timeoutNanos < 0) {
                 wait();
+            } else {
+                TimeUnit.NANOSECONDS.timedWait(this, timeoutNanos);
+                timedOut = System.nanoTime() - waitStart >= timeoutNanos;
             }
-            freeRunways--;
         } finally {
-            waitingLandingRunway--;
+            held[0] = stats.afterWait(waitStart, timedOut);
+        }
+        return !timedOut;
+    }
+
+    @Override
+    public void requestRunwayForLanding() throws InterruptedException {
+        long t0 = System.nanoTime();
+        synchronized (this) {
+            long[] held = { stats.entered(t0) };
+            waitingLandingRunway++;
+            try {
+                boolean first = true;
+                while (freeRunways == 0) {
+                    waitMeasured(held, first, -1);
+                    first = false;
+                }
+                freeRunways--;
+            } finally {
+                waitingLandingRunway--;
+                stats.exited(held[0]);
+            }
+        }
+    }
+
+    @Override
+    public boolean tryRequestRunwayForLanding(long timeout, TimeUnit unit)
+            throws InterruptedException {
+        long t0 = System.nanoTime();
+        long deadline = t0 + unit.toNanos(timeout);
+        synchronized (this) {
+            long[] held = { stats.entered(t0) };
+            waitingLandingRunway++;
+            try {
+                boolean first = true;
+                boolean woken = true;
+                while (freeRunways == 0) {
+                    long left = deadline - System.nanoTime();
+                    if (left <= 0 || !woken) {
+                        // les départs retenus par notre priorité peuvent repasser
+                        notifyAll();
+                        return false;
+                    }
+                    woken = waitMeasured(held, first, left);
+                    first = false;
+                }
+                freeRunways--;
+                return true;
+            } finally {
+                waitingLandingRunway--;
+                stats.exited(held[0]);
+            }
+        }
+    }
+
+    @Override
+    public void requestRunwayForTakeoff() throws InterruptedException {
+        long t0 = System.nanoTime();
+        synchronized (this) {
+            long[] held = { stats.entered(t0) };
+            try {
+                // priorité aux arrivées : un départ ne prend une piste
+                // que si aucune arrivée n'attend
+                boolean first = true;
+                while (freeRunways == 0 || waitingLandingRunway > 0) {
+                    waitMeasured(held, first, -1);
+                    first = false;
+                }
+                freeRunways--;
+            } finally {
+                stats.exited(held[0]);
+            }
         }
     }
 
     @Override
-    public synchronized void requestRunwayForTakeoff() throws InterruptedException {
-        // priorité aux arrivées : un départ ne prend une piste
-        // que si aucune arrivée n'attend
-        while (freeRunways == 0 || waitingLandingRunway > 0) {
-            wait();
+    public void releaseRunway() {
+        long t0 = System.nanoTime();
+        synchronized (this) {
+            long held = stats.entered(t0);
+            freeRunways++;
+            notifyAll();
+            stats.exited(held);
         }
-        freeRunways--;
     }
 
     @Override
-    public synchronized void releaseRunway() {
-        freeRunways++;
-        notifyAll();
+    public void requestGate() throws InterruptedException {
+        long t0 = System.nanoTime();
+        synchronized (this) {
+            long[] held = { stats.entered(t0) };
+            try {
+                boolean first = true;
+                while (freeGates == 0) {
+                    waitMeasured(held, first, -1);
+                    first = false;
+                }
+                freeGates--;
+            } finally {
+                stats.exited(held[0]);
+            }
+        }
     }
 
     @Override
-    public synchronized void requestGate() throws InterruptedException {
-        while (freeGates == 0) {
-            wait();
+    public boolean tryRequestGate(long timeout, TimeUnit unit) throws InterruptedException {
+        long t0 = System.nanoTime();
+        long deadline = t0 + unit.toNanos(timeout);
+        synchronized (this) {
+            long[] held = { stats.entered(t0) };
+            try {
+                boolean first = true;
+                boolean woken = true;
+                while (freeGates == 0) {
+                    long left = deadline - System.nanoTime();
+                    if (left <= 0 || !woken) {
+                        return false;
+                    }
+                    woken = waitMeasured(held, first, left);
+                    first = false;
+                }
+                freeGates--;
+                return true;
+            } finally {
+                stats.exited(held[0]);
+            }
         }
-        freeGates--;
     }
 
     @Override
-    public synchronized void releaseGate() {
-        freeGates++;
-        notifyAll();
+    public void releaseGate() {
+        long t0 = System.nanoTime();
+        synchronized (this) {
+            long held = stats.entered(t0);
+            freeGates++;
+            notifyAll();
+            stats.exited(held);
+        }
     }
-}
\ No newline at end of file
+}
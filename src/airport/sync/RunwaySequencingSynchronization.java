@@ -0,0 +1,323 @@
+package airport.sync;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import airport.model.Airplane;
+import airport.model.WakeCategory;
+
+/**
+ * Séquenceur de piste : au lieu de réveiller le premier arrivé, chaque piste
+ * libérée est attribuée à l'avion qui pourra l'utiliser le plus tôt compte
+ * tenu de l'écart de sillage derrière le dernier appareil qui l'a utilisée.
+ *
+ * Le séquenceur attribue une piste précise (assignedRunway), que l'Airport
+ * occupe ; la libération lui rend cette même piste, avec la catégorie de son
+ * dernier utilisateur et l'instant de libération sur l'horloge de l'Airport
+ * (virtuelle en simulation à événements).
+ *
+ * Déplacement de position contraint (CPS), au sein d'un même type de trafic :
+ * tant qu'une arrivée attend, seules les MAX_SHIFT + 1 premières arrivées sont
+ * candidates, et les départs ne le sont qu'en l'absence d'arrivée. Un départ
+ * ne double donc jamais une arrivée, comme dans les autres stratégies. Un
+ * avion doublé MAX_SHIFT fois passe obligatoirement au tour suivant. Chaque
+ * avion a sa propre Condition : un seul réveil par piste.
+ */
+public class RunwaySequencingSynchronization implements AirportSynchronization {
+
+    public static final int MAX_SHIFT = 3;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition gateCond = lock.newCondition();
+
+    // Piste (indice dans l'Airport) et son dernier utilisateur : catégorie et
+    // instant de libération (horloge de l'Airport, ns)
+    private static final class Slot {
+        final int index;
+        WakeCategory lastCategory;
+        long releasedAt;
+        boolean free;
+
+        Slot(int index) {
+            this.index = index;
+        }
+
+        // Écart restant (ms simulées) pour ce suiveur ; 0 si l'avion est inconnu
+        long remainingMs(Request r) {
+            if (r.airplane == null) {
+                return 0;
+            }
+            long gap = r.airplane.getWakeCategory().separationAfterMs(lastCategory);
+            if (gap == 0) {
+                return 0;
+            }
+            long now = r.airplane.nanoTime();
+            return Math.max(0, gap - (long) ((now - releasedAt) / 1e6 * r.airplane.getSpeedFactor()));
+        }
+    }
+
+    private static final class Request {
+        final Airplane airplane;
+        final Condition granted;
+        Slot slot;
+        int overtaken;
+
+        Request(Airplane a, Condition granted) {
+            this.airplane = a;
+            this.granted = granted;
+        }
+    }
+
+    // Pistes par indice ; freeSlots : celles qui ne sont ni attribuées ni occupées
+    private final List<Slot> slots = new ArrayList<>();
+    private final ArrayDeque<Slot> freeSlots = new ArrayDeque<>();
+    // Piste attribuée, en attendant que l'Airport l'occupe (assignedRunway)
+    private final Map<Airplane, Slot> assigned = new IdentityHashMap<>();
+    private final List<Request> landingWaiters = new ArrayList<>();
+    private final List<Request> takeoffWaiters = new ArrayList<>();
+    private int freeGates;
+
+    public RunwaySequencingSynchronization(int runways, int gates) {
+        this(runways, runways, gates);
+    }
+
+    /**
+     * Création en cours de trafic (bascule à chaud) : runways pistes au total,
+     * dont seules freeRunways sont libres ; les autres sont tenues et ne
+     * reviennent qu'à leur libération.
+     */
+    public RunwaySequencingSynchronization(int runways, int freeRunways, int gates) {
+        for (int i = 0; i < runways; i++) {
+            Slot s = new Slot(i);
+            slots.add(s);
+            if (i < freeRunways) {
+                free(s);
+            }
+        }
+        this.freeGates = gates;
+    }
+
+    private void free(Slot s) {
+        s.free = true;
+        freeSlots.add(s);
+    }
+
+    @Override
+    public void requestRunwayForLanding() throws InterruptedException {
+        requestRunwayForLanding(null);
+    }
+
+    @Override
+    public void requestRunwayForLanding(Airplane a) throws InterruptedException {
+        requestRunway(a, landingWaiters, -1);
+    }
+
+    @Override
+    public boolean tryRequestRunwayForLanding(long timeout, TimeUnit unit) throws InterruptedException {
+        return tryRequestRunwayForLanding(null, timeout, unit);
+    }
+
+    @Override
+    public boolean tryRequestRunwayForLanding(Airplane a, long timeout, TimeUnit unit)
+            throws InterruptedException {
+        return requestRunway(a, landingWaiters, Math.max(0, unit.toNanos(timeout)));
+    }
+
+    @Override
+    public void requestRunwayForTakeoff() throws InterruptedException {
+        requestRunwayForTakeoff(null);
+    }
+
+    @Override
+    public void requestRunwayForTakeoff(Airplane a) throws InterruptedException {
+        requestRunway(a, takeoffWaiters, -1);
+    }
+
+    // nanos < 0 : pas d'échéance
+    private boolean requestRunway(Airplane a, List<Request> queue, long nanos) throws InterruptedException {
+        lock.lock();
+        try {
+            Request r = new Request(a, lock.newCondition());
+            queue.add(r);
+            dispatch();
+            try {
+                while (r.slot == null) {
+                    if (nanos < 0) {
+                        r.granted.await();
+                    } else if (nanos == 0) {
+                        queue.remove(r);
+                        dispatch();
+                        return false;
+                    } else {
+                        nanos = r.granted.awaitNanos(nanos);
+                        nanos = Math.max(0, nanos);
+                    }
+                }
+                return true;
+            } catch (InterruptedException e) {
+                if (r.slot != null) {
+                    // piste déjà attribuée : on la rend aussitôt, avec son historique
+                    if (a != null) {
+                        assigned.remove(a);
+                    }
+                    free(r.slot);
+                } else {
+                    queue.remove(r);
+                }
+                dispatch();
+                throw e;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void releaseRunway() {
+        releaseRunway(null);
+    }
+
+    @Override
+    public void releaseRunway(Airplane a) {
+        releaseRunway(a, -1);
+    }
+
+    @Override
+    public void releaseRunway(Airplane a, int runway) {
+        lock.lock();
+        try {
+            Slot s = releasedSlot(runway);
+            s.lastCategory = a == null ? null : a.getWakeCategory();
+            s.releasedAt = a == null ? 0 : a.nanoTime();
+            free(s);
+            dispatch();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // La piste rendue ; indice inconnu, ou piste que l'on croyait libre (on
+    // ignore lesquelles étaient occupées avant une bascule à chaud) : une piste
+    // tenue quelconque. Jamais de piste en plus de celles de l'Airport.
+    private Slot releasedSlot(int runway) {
+        if (runway >= 0 && runway < slots.size() && !slots.get(runway).free) {
+            return slots.get(runway);
+        }
+        for (Slot s : slots) {
+            if (!s.free) {
+                return s;
+            }
+        }
+        throw new IllegalStateException("Libération de la piste " + runway + " alors qu'aucune n'est tenue");
+    }
+
+    @Override
+    public int assignedRunway(Airplane a) {
+        lock.lock();
+        try {
+            Slot s = assigned.remove(a);
+            return s == null ? -1 : s.index;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Attribue les pistes libres tant qu'il y a des candidats ; appelé sous verrou
+    private void dispatch() {
+        while (!freeSlots.isEmpty() && !(landingWaiters.isEmpty() && takeoffWaiters.isEmpty())) {
+            // priorité aux arrivées : les départs ne concourent qu'en leur absence
+            List<Request> queue = landingWaiters.isEmpty() ? takeoffWaiters : landingWaiters;
+            int window = Math.min(MAX_SHIFT + 1, queue.size());
+
+            int bestPos = -1;
+            Slot bestSlot = null;
+            long bestCost = Long.MAX_VALUE;
+            for (int pos = 0; pos < window; pos++) {
+                Request r = queue.get(pos);
+                for (Slot s : freeSlots) {
+                    long cost = s.remainingMs(r);
+                    if (cost < bestCost) {
+                        bestCost = cost;
+                        bestPos = pos;
+                        bestSlot = s;
+                    }
+                }
+                // doublé trop souvent : il passe, sur sa meilleure piste
+                if (r.overtaken >= MAX_SHIFT) {
+                    if (bestPos != pos) {
+                        bestCost = Long.MAX_VALUE;
+                        for (Slot s : freeSlots) {
+                            long cost = s.remainingMs(r);
+                            if (cost < bestCost) {
+                                bestCost = cost;
+                                bestSlot = s;
+                            }
+                        }
+                        bestPos = pos;
+                    }
+                    break;
+                }
+            }
+
+            for (int pos = 0; pos < bestPos; pos++) {
+                queue.get(pos).overtaken++;
+            }
+            Request chosen = queue.remove(bestPos);
+            freeSlots.remove(bestSlot);
+            bestSlot.free = false;
+            chosen.slot = bestSlot;
+            if (chosen.airplane != null) {
+                assigned.put(chosen.airplane, bestSlot);
+            }
+            chosen.granted.signal();
+        }
+    }
+
+    @Override
+    public void requestGate() throws InterruptedException {
+        lock.lock();
+        try {
+            while (freeGates == 0) {
+                gateCond.await();
+            }
+            freeGates--;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean tryRequestGate(long timeout, TimeUnit unit) throws InterruptedException {
+        long left = unit.toNanos(timeout);
+        lock.lock();
+        try {
+            while (freeGates == 0) {
+                if (left <= 0) {
+                    return false;
+                }
+                left = gateCond.awaitNanos(left);
+            }
+            freeGates--;
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void releaseGate() {
+        lock.lock();
+        try {
+            freeGates++;
+            gateCond.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -1,8 +1,9 @@
 package airport.sync;
 
 import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 
-public class SemaphoreSynchronization implements AirportSynchronization {
+public class SemaphoreSynchronization implements AirportSynchronization, ContentionProfiled {
 
     // Pistes
     private final Semaphore runwayPool;
@@ -16,43 +17,117 @@ public class SemaphoreSynchronization implements AirportSynchronization {
     // Portes
     private final Semaphore gatePool;
 
+    // Mesures de contention : le mutex joue le rôle du verrou, les files celui
+    // des conditions. Le transfert direct de permis ne réveille jamais pour rien.
+    private final ContentionStats stats = new ContentionStats();
+
     public SemaphoreSynchronization(int runways, int gates) {
         this.runwayPool = new Semaphore(runways, true);
         this.gatePool = new Semaphore(gates, true);
     }
 
     @Override
-    public void requestRunwayForLanding() throws InterruptedException {
+    public ContentionStats getContentionStats() {
+        return stats;
+    }
+
+    private long lockMutex() throws InterruptedException {
+        long t0 = System.nanoTime();
         mutex.acquire();
+        return stats.entered(t0);
+    }
+
+    // Pour les chemins qui ne doivent pas échouer (libération, échéance)
+    private long lockMutexUninterruptibly() {
+        long t0 = System.nanoTime();
+        mutex.acquireUninterruptibly();
+        return stats.entered(t0);
+    }
+
+    private void unlockMutex(long heldSince) {
+        stats.exited(heldSince);
+        mutex.release();
+    }
+
+    // Attente dans une file, hors mutex
+    private void queueAcquire(Semaphore queue) throws InterruptedException {
+        stats.resourceWaitStarted();
+        long w = System.nanoTime();
+        try {
+            queue.acquire();
+        } finally {
+            stats.resourceWaited(w);
+        }
+    }
+
+    @Override
+    public void requestRunwayForLanding() throws InterruptedException {
+        long held = lockMutex();
         if (runwayPool.tryAcquire()) {
-            mutex.release();
+            unlockMutex(held);
             return;
         } else {
             waitingLandingRunway++;
-            mutex.release();
-            landingQueue.acquire();
+            unlockMutex(held);
+            queueAcquire(landingQueue);
             return;
         }
     }
 
+    @Override
+    public boolean tryRequestRunwayForLanding(long timeout, TimeUnit unit) throws InterruptedException {
+        long held = lockMutex();
+        if (runwayPool.tryAcquire()) {
+            unlockMutex(held);
+            return true;
+        }
+        waitingLandingRunway++;
+        unlockMutex(held);
+        stats.resourceWaitStarted();
+        long w = System.nanoTime();
+        boolean granted;
+        try {
+            granted = landingQueue.tryAcquire(timeout, unit);
+        } finally {
+            stats.resourceWaited(w);
+        }
+        if (granted) {
+            return true;
+        }
+        // Échéance : un releaseRunway a pu nous transmettre la piste entre-temps
+        held = lockMutexUninterruptibly();
+        try {
+            if (landingQueue.tryAcquire()) {
+                return true;
+            }
+            waitingLandingRunway--;
+            return false;
+        } finally {
+            unlockMutex(held);
+        }
+    }
+
     @Override
     public void requestRunwayForTakeoff() throws InterruptedException {
-        mutex.acquire();
-        if (runwayPool.tryAcquire() && waitingLandingRunway == 0) {
-            mutex.release();
+        long held = lockMutex();
+        // tester la priorité d'abord : sinon le permis pris est perdu
+        if (waitingLandingRunway == 0 && runwayPool.tryAcquire()) {
+            unlockMutex(held);
             return;
         } else {
             waitingTakeoffRunway++;
-            mutex.release();
-            takeoffQueue.acquire();
+            unlockMutex(held);
+            queueAcquire(takeoffQueue);
             return;
         }
     }
 
     @Override
     public void releaseRunway() {
+        // une libération ne doit pas échouer : sans le mutex, la piste serait
+        // perdue, et un release() sans acquire() ajouterait un permis au mutex
+        long held = lockMutexUninterruptibly();
         try {
-            mutex.acquire();
             if (waitingLandingRunway > 0) {
                 waitingLandingRunway--;
                 landingQueue.release();
@@ -62,20 +137,36 @@ public class SemaphoreSynchronization implements AirportSynchronization {
             } else {
                 runwayPool.release();
             }
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
         } finally {
-            mutex.release();
+            unlockMutex(held);
         }
     }
 
     @Override
     public void requestGate() throws InterruptedException {
-        gatePool.acquire();
+        // tryAcquire() sans délai ignorerait l'équité du sémaphore
+        if (gatePool.tryAcquire(0, TimeUnit.NANOSECONDS)) {
+            return;
+        }
+        queueAcquire(gatePool);
+    }
+
+    @Override
+    public boolean tryRequestGate(long timeout, TimeUnit unit) throws InterruptedException {
+        if (gatePool.tryAcquire(0, TimeUnit.NANOSECONDS)) {
+            return true;
+        }
+        stats.resourceWaitStarted();
+        long w = System.nanoTime();
+        try {
+            return gatePool.tryAcquire(timeout, unit);
+        } finally {
+            stats.resourceWaited(w);
+        }
     }
 
     @Override
     public void releaseGate() {
         gatePool.release();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,47 @@
+package airport.sync;
+
+import java.util.function.BiFunction;
+
+// Catalogue des politiques de synchronisation (GUI, mode headless, mesures).
+public enum SyncStrategy {
+    MONITEUR("Moniteur", MonitorSynchronization::new),
+    SEMAPHORE("Sémaphore", SemaphoreSynchronization::new),
+    REENTRANT_LOCK("ReentrantLock", LockConditionSynchronization::new),
+    CAS("CAS", CasSynchronization::new),
+    SEQUENCEUR("Séquenceur", RunwaySequencingSynchronization::new);
+
+    private final String label;
+    private final BiFunction<Integer, Integer, AirportSynchronization> factory;
+
+    SyncStrategy(String label, BiFunction<Integer, Integer, AirportSynchronization> factory) {
+        this.label = label;
+        this.factory = factory;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    public AirportSynchronization create(int runways, int gates) {
+        return factory.apply(runways, gates);
+    }
+
+    // Création en cours de trafic (bascule à chaud) : heldRunways et heldGates
+    // sont encore tenues et seront rendues à la nouvelle stratégie
+    public AirportSynchronization create(int runways, int gates, int heldRunways, int heldGates) {
+        if (this == SEQUENCEUR) {
+            return new RunwaySequencingSynchronization(runways, runways - heldRunways, gates - heldGates);
+        }
+        return create(runways - heldRunways, gates - heldGates);
+    }
+
+    // Accepte le nom de la constante ou le libellé affiché, sans casse.
+    public static SyncStrategy parse(String name) {
+        for (SyncStrategy s : values()) {
+            if (s.name().equalsIgnoreCase(name) || s.label.equalsIgnoreCase(name)) {
+                return s;
+            }
+        }
+        throw new IllegalArgumentException("Synchro inconnue : " + name);
+    }
+}
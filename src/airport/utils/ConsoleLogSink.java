@@ -0,0 +1,16 @@
+package airport.utils;
+
+import java.io.PrintStream;
+
+public class ConsoleLogSink implements LogSink {
+    private final PrintStream out;
+
+    public ConsoleLogSink(PrintStream out) {
+        this.out = out;
+    }
+
+    @Override
+    public void append(long timeMillis, String message) {
+        out.print(SimLogger.format(timeMillis, message));
+    }
+}
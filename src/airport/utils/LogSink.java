@@ -0,0 +1,9 @@
+package airport.utils;
+
+// Destination des lignes de log : la GUI, la console, ou rien du tout.
+public interface LogSink {
+
+    LogSink DISCARD = (timeMillis, message) -> { };
+
+    void append(long timeMillis, String message);
+}
@@ -0,0 +1,76 @@
+package airport.utils;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Tampon circulaire sans verrou, plusieurs producteurs / un seul consommateur.
+ * Un producteur réserve une case par CAS puis y range l'instant et la
+ * référence du message (aucune allocation, pas de formatage) ; le
+ * consommateur vide le tampon par lots avec drain(). Si le tampon est plein,
+ * le message est abandonné et compté plutôt que de bloquer un avion.
+ */
+public class RingBufferLogSink implements LogSink {
+
+    private final int capacity;
+    private final int mask;
+    private final long[] times;
+    private final String[] messages;
+    private final AtomicLongArray published;
+
+    private final AtomicLong tail = new AtomicLong();
+    private volatile long head = 0;
+    private final AtomicLong dropped = new AtomicLong();
+
+    // capacity arrondie à la puissance de 2 supérieure
+    public RingBufferLogSink(int capacity) {
+        int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+        this.capacity = size;
+        this.mask = size - 1;
+        this.times = new long[size];
+        this.messages = new String[size];
+        this.published = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            published.set(i, -1);
+        }
+    }
+
+    @Override
+    public void append(long timeMillis, String message) {
+        long seq;
+        do {
+            seq = tail.get();
+            if (seq - head >= capacity) {
+                dropped.incrementAndGet();
+                return;
+            }
+        } while (!tail.compareAndSet(seq, seq + 1));
+        int idx = (int) (seq & mask);
+        times[idx] = timeMillis;
+        messages[idx] = message;
+        published.set(idx, seq); // publie la case (écriture volatile)
+    }
+
+    // À n'appeler que depuis un seul thread consommateur.
+    public int drain(LogSink target, int max) {
+        long h = head;
+        int n = 0;
+        while (n < max) {
+            int idx = (int) (h & mask);
+            if (published.get(idx) != h) {
+                break;
+            }
+            long time = times[idx];
+            String message = messages[idx];
+            messages[idx] = null;
+            head = ++h;
+            target.append(time, message);
+            n++;
+        }
+        return n;
+    }
+
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+}
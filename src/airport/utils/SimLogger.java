@@ -1,22 +1,27 @@
 package airport.utils;
 
+import java.time.Instant;
 import java.time.LocalTime;
+import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 
-import javafx.application.Platform;
-import javafx.scene.control.TextArea;
-
+// Aucune dépendance JavaFX : l'affichage est délégué au LogSink.
 public class SimLogger {
-    private final TextArea textArea;
-    private final DateTimeFormatter fmt =
+    private static final DateTimeFormatter FMT =
             DateTimeFormatter.ofPattern("HH:mm:ss");
 
-    public SimLogger(TextArea textArea) {
-        this.textArea = textArea;
+    private final LogSink sink;
+
+    public SimLogger(LogSink sink) {
+        this.sink = sink;
     }
 
     public void log(String msg) {
-        String line = "[" + LocalTime.now().format(fmt) + "] " + msg + "\n";
-        Platform.runLater(() -> textArea.appendText(line));
+        sink.append(System.currentTimeMillis(), msg);
+    }
+
+    public static String format(long timeMillis, String msg) {
+        LocalTime time = LocalTime.ofInstant(Instant.ofEpochMilli(timeMillis), ZoneId.systemDefault());
+        return "[" + time.format(FMT) + "] " + msg + "\n";
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,69 @@
+package airport.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import airport.model.Airplane;
+import airport.model.FlightType;
+import airport.sync.MonitorSynchronization;
+import airport.utils.SimLogger;
+
+class AirportQueueTest {
+
+    private final Airport airport = new Airport(1, 1, new MonitorSynchronization(1, 1), new SimLogger((t, m) -> { }));
+
+    @Test
+    void queuesKeepArrivalOrder() {
+        Airplane a = airport.createPlane(FlightType.ARRIVEE, 1.0);
+        Airplane b = airport.createPlane(FlightType.ARRIVEE, 1.0);
+        Airplane c = airport.createPlane(FlightType.ARRIVEE, 1.0);
+        airport.addToLandingQueue(b);
+        airport.addToLandingQueue(a);
+        airport.addToLandingQueue(c);
+        assertEquals(List.of(b, a, c), airport.getLandingQueueSnapshot());
+        assertEquals(3, airport.getLandingQueueSize());
+    }
+
+    @Test
+    void removalWorksAtAnyPosition() {
+        Airplane a = airport.createPlane(FlightType.DEPART, 1.0);
+        Airplane b = airport.createPlane(FlightType.DEPART, 1.0);
+        Airplane c = airport.createPlane(FlightType.DEPART, 1.0);
+        airport.addToTakeoffQueue(a);
+        airport.addToTakeoffQueue(b);
+        airport.addToTakeoffQueue(c);
+
+        airport.removeFromTakeoffQueue(b);
+        assertEquals(List.of(a, c), airport.getTakeoffQueueSnapshot());
+        airport.removeFromTakeoffQueue(c);
+        airport.removeFromTakeoffQueue(a);
+        assertEquals(List.of(), airport.getTakeoffQueueSnapshot());
+        assertEquals(0, airport.getTakeoffQueueSize());
+    }
+
+    @Test
+    void queueIsASet() {
+        Airplane a = airport.createPlane(FlightType.ARRIVEE, 1.0);
+        Airplane b = airport.createPlane(FlightType.ARRIVEE, 1.0);
+        airport.addToLandingQueue(a);
+        airport.addToLandingQueue(b);
+        // un avion déjà en file garde sa place ; en retirer un absent ne change rien
+        airport.addToLandingQueue(a);
+        airport.removeFromLandingQueue(airport.createPlane(FlightType.ARRIVEE, 1.0));
+        assertEquals(List.of(a, b), airport.getLandingQueueSnapshot());
+    }
+
+    @Test
+    void queuesAreIndependent() {
+        Airplane arrival = airport.createPlane(FlightType.ARRIVEE, 1.0);
+        Airplane departure = airport.createPlane(FlightType.DEPART, 1.0);
+        airport.addToLandingQueue(arrival);
+        airport.addToTakeoffQueue(departure);
+        airport.removeFromTakeoffQueue(arrival);
+        assertEquals(List.of(arrival), airport.getLandingQueueSnapshot());
+        assertEquals(List.of(departure), airport.getTakeoffQueueSnapshot());
+    }
+}
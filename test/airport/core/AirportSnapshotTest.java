@@ -0,0 +1,251 @@
+package airport.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadInfo;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import airport.model.Airplane;
+import airport.model.FlightType;
+import airport.model.Gate;
+import airport.model.Runway;
+import airport.sync.AirportSynchronization;
+import airport.sync.SemaphoreSynchronization;
+import airport.utils.SimLogger;
+
+class AirportSnapshotTest {
+
+    private static Airport airport(int runways, int gates) {
+        return new Airport(runways, gates, new SemaphoreSynchronization(runways, gates), new SimLogger((t, m) -> { }));
+    }
+
+    @Test
+    void unchangedAirportReturnsTheSameSnapshot() {
+        Airport airport = airport(1, 1);
+        AirportSnapshot first = airport.getSnapshot();
+        assertSame(first, airport.getSnapshot());
+
+        airport.addToLandingQueue(airport.createPlane(FlightType.ARRIVEE, 1.0));
+        AirportSnapshot second = airport.getSnapshot();
+        assertNotSame(first, second);
+        assertTrue(second.getVersion() > first.getVersion());
+        assertSame(second, airport.getSnapshot());
+        // l'ancien instantané n'a pas bougé
+        assertEquals(0, first.getLandingQueueSize());
+    }
+
+    @Test
+    void occupyingARunwayLeavesTheQueue() {
+        Airport airport = airport(2, 1);
+        Airplane arrival = airport.createPlane(FlightType.ARRIVEE, 1.0);
+        Airplane departure = airport.createPlane(FlightType.DEPART, 1.0);
+        airport.addToLandingQueue(arrival);
+        airport.addToTakeoffQueue(departure);
+
+        Runway r = airport.occupyRunway(arrival);
+        AirportSnapshot s = airport.getSnapshot();
+        assertSame(arrival, s.getRunwayOccupant(r.getId() - 1));
+        assertEquals(List.of(), s.getLandingQueue());
+        assertEquals(List.of(departure), s.getTakeoffQueue());
+
+        Runway r2 = airport.occupyRunway(departure);
+        s = airport.getSnapshot();
+        assertSame(departure, s.getRunwayOccupant(r2.getId() - 1));
+        assertEquals(List.of(), s.getTakeoffQueue());
+
+        airport.freeRunway(r);
+        assertNull(airport.getSnapshot().getRunwayOccupant(r.getId() - 1));
+    }
+
+    @Test
+    void gatesAppearInTheSnapshot() {
+        Airport airport = airport(1, 2);
+        Airplane a = airport.createPlane(FlightType.ARRIVEE, 1.0);
+        Gate g = airport.occupyGate(a);
+        assertSame(a, airport.getSnapshot().getGateOccupant(g.getId() - 1));
+        airport.freeGate(g);
+        assertNull(airport.getSnapshot().getGateOccupant(g.getId() - 1));
+        assertEquals(2, airport.getSnapshot().getGateCount());
+    }
+
+    // Des écrivains font passer des avions file → piste → porte pendant que
+    // des lecteurs vérifient chaque instantané : aucun avion à deux endroits
+    // à la fois, jamais plus d'occupants que de ressources, versions croissantes.
+    @Test
+    void concurrentReadersSeeConsistentStates() throws InterruptedException {
+        int runways = 2;
+        int gates = 3;
+        Airport airport = airport(runways, gates);
+        AirportSynchronization sync = airport.getSync();
+        AtomicBoolean stop = new AtomicBoolean();
+        List<String> errors = Collections.synchronizedList(new ArrayList<>());
+
+        List<Thread> readers = new ArrayList<>();
+        for (int k = 0; k < 3; k++) {
+            Thread t = new Thread(() -> {
+                long lastVersion = -1;
+                while (!stop.get()) {
+                    AirportSnapshot s = airport.getSnapshot();
+                    if (s.getVersion() < lastVersion) {
+                        errors.add("version " + s.getVersion() + " après " + lastVersion);
+                    }
+                    lastVersion = s.getVersion();
+                    Set<Airplane> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+                    List<Airplane> everywhere = new ArrayList<>(s.getLandingQueue());
+                    everywhere.addAll(s.getTakeoffQueue());
+                    for (int i = 0; i < s.getRunwayCount(); i++) {
+                        everywhere.add(s.getRunwayOccupant(i));
+                    }
+                    for (int i = 0; i < s.getGateCount(); i++) {
+                        everywhere.add(s.getGateOccupant(i));
+                    }
+                    for (Airplane a : everywhere) {
+                        if (a != null && !seen.add(a)) {
+                            errors.add(a.getAirplaneId() + " à deux endroits (version " + s.getVersion() + ")");
+                        }
+                    }
+                }
+            }, "lecteur-" + k);
+            readers.add(t);
+            t.start();
+        }
+
+        List<Thread> writers = new ArrayList<>();
+        for (int k = 0; k < 6; k++) {
+            FlightType type = k % 2 == 0 ? FlightType.ARRIVEE : FlightType.DEPART;
+            Thread t = new Thread(() -> {
+                try {
+                    for (int i = 0; i < 500; i++) {
+                        Airplane a = airport.createPlane(type, 1.0);
+                        if (type == FlightType.ARRIVEE) {
+                            airport.addToLandingQueue(a);
+                            sync.requestRunwayForLanding(a);
+                        } else {
+                            airport.addToTakeoffQueue(a);
+                            sync.requestRunwayForTakeoff(a);
+                        }
+                        Runway r = airport.occupyRunway(a);
+                        airport.freeRunway(r);
+                        sync.releaseRunway(a, r.getId() - 1);
+                        sync.requestGate();
+                        Gate g = airport.occupyGate(a);
+                        airport.freeGate(g);
+                        sync.releaseGate();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }, "écrivain-" + k);
+            writers.add(t);
+            t.start();
+        }
+
+        for (Thread t : writers) {
+            t.join(TimeUnit.SECONDS.toMillis(30));
+            assertFalse(t.isAlive(), t.getName() + " est resté bloqué");
+        }
+        stop.set(true);
+        for (Thread t : readers) {
+            t.join();
+        }
+        assertEquals(List.of(), errors.subList(0, Math.min(5, errors.size())));
+
+        AirportSnapshot last = airport.getSnapshot();
+        assertEquals(0, last.getLandingQueueSize());
+        assertEquals(0, last.getTakeoffQueueSize());
+        for (int i = 0; i < runways; i++) {
+            assertNull(last.getRunwayOccupant(i));
+        }
+    }
+
+    // Un lecteur qui tourne en boucle ne fait jamais attendre l'écrivain : ce
+    // dernier ne passe ni par BLOCKED ni par WAITING. Un seul avion circule
+    // (file → piste → porte), donc chaque instantané en montre au plus un.
+    @Test
+    void spinningReaderNeverBlocksTheWriter() throws InterruptedException {
+        int warmup = 20_000;
+        int rounds = 200_000;
+        Airport airport = airport(2, 2);
+        ThreadMXBean mx = ManagementFactory.getThreadMXBean();
+        AtomicBoolean stop = new AtomicBoolean();
+        AtomicLong versions = new AtomicLong();
+        List<String> errors = Collections.synchronizedList(new ArrayList<>());
+
+        Thread reader = new Thread(() -> {
+            long lastVersion = -1;
+            while (!stop.get()) {
+                AirportSnapshot s = airport.getSnapshot();
+                int seen = s.getLandingQueueSize() + s.getTakeoffQueueSize();
+                for (int i = 0; i < s.getRunwayCount(); i++) {
+                    seen += s.getRunwayOccupant(i) == null ? 0 : 1;
+                }
+                for (int i = 0; i < s.getGateCount(); i++) {
+                    seen += s.getGateOccupant(i) == null ? 0 : 1;
+                }
+                if (seen > 1) {
+                    errors.add(seen + " avions dans la version " + s.getVersion());
+                }
+                if (airport.getLandingQueueSize() > 1) {
+                    errors.add("file d'arrivée de " + airport.getLandingQueueSize());
+                }
+                if (s.getVersion() != lastVersion) {
+                    lastVersion = s.getVersion();
+                    versions.incrementAndGet();
+                }
+            }
+        }, "lecteur");
+
+        long[] blocked = new long[2];
+        long[] waited = new long[2];
+        Thread writer = new Thread(() -> {
+            long self = Thread.currentThread().getId();
+            Airplane a = airport.createPlane(FlightType.ARRIVEE, 1.0);
+            for (int i = 0; i < rounds; i++) {
+                if (i == warmup) {
+                    ThreadInfo info = mx.getThreadInfo(self);
+                    blocked[0] = info.getBlockedCount();
+                    waited[0] = info.getWaitedCount();
+                }
+                airport.addToLandingQueue(a);
+                Runway r = airport.occupyRunway(a);
+                airport.freeRunway(r);
+                Gate g = airport.occupyGate(a);
+                airport.freeGate(g);
+            }
+            ThreadInfo info = mx.getThreadInfo(self);
+            blocked[1] = info.getBlockedCount();
+            waited[1] = info.getWaitedCount();
+        }, "écrivain");
+
+        reader.start();
+        writer.start();
+        writer.join(TimeUnit.SECONDS.toMillis(60));
+        assertFalse(writer.isAlive(), "l'écrivain est resté bloqué");
+        stop.set(true);
+        reader.join();
+
+        assertEquals(List.of(), errors.subList(0, Math.min(5, errors.size())));
+        assertEquals(0, blocked[1] - blocked[0], "écrivain bloqué sur un moniteur");
+        assertEquals(0, waited[1] - waited[0], "écrivain mis en attente");
+        assertTrue(versions.get() > 1, "le lecteur n'a vu aucune modification");
+        AirportSnapshot last = airport.getSnapshot();
+        assertEquals(0, last.getLandingQueueSize());
+        assertEquals(0, airport.getLandingQueueSize());
+    }
+}
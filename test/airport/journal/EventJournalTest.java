@@ -0,0 +1,119 @@
+package airport.journal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import airport.core.Airport;
+import airport.model.AirplaneState;
+import airport.model.FlightType;
+import airport.sim.EventSimulation;
+import airport.sync.MonitorSynchronization;
+import airport.utils.SimLogger;
+
+class EventJournalTest {
+
+    @TempDir
+    Path dir;
+
+    // Un enregistrement relu, sous forme comparable
+    private static List<String> replay(Path file) throws IOException {
+        List<String> events = new ArrayList<>();
+        try (JournalReader reader = new JournalReader(file)) {
+            reader.replay((type, time, airplane, flightType, resource, state) ->
+                    events.add(type + " " + time + " " + airplane + " " + flightType + " " + resource + " " + state));
+        }
+        return events;
+    }
+
+    @Test
+    void recordsReadBackAsWritten() throws IOException {
+        Path file = dir.resolve("journal.bin");
+        try (EventJournal journal = new EventJournal(file, 16)) {
+            journal.append(JournalEventType.LANDING_QUEUE_ADD, 10, 1, FlightType.ARRIVEE, 0, null);
+            journal.append(JournalEventType.RUNWAY_OCCUPY, 20, 1, FlightType.ARRIVEE, 2, null);
+            journal.append(JournalEventType.STATE, 30, 7, FlightType.DEPART, 0, AirplaneState.DECOLLAGE);
+            journal.append(JournalEventType.GATE_FREE, Long.MAX_VALUE, Integer.MAX_VALUE, null, 3, null);
+            assertEquals(4, journal.getRecordCount());
+        }
+        try (JournalReader reader = new JournalReader(file)) {
+            assertEquals(4, reader.getDeclaredCount());
+        }
+        assertEquals(List.of(
+                "LANDING_QUEUE_ADD 10 1 ARRIVEE 0 null",
+                "RUNWAY_OCCUPY 20 1 ARRIVEE 2 null",
+                "STATE 30 7 DEPART 0 DECOLLAGE",
+                "GATE_FREE " + Long.MAX_VALUE + " " + Integer.MAX_VALUE + " null 3 null"), replay(file));
+    }
+
+    @Test
+    void fullJournalCountsDroppedEvents() throws IOException {
+        Path file = dir.resolve("plein.bin");
+        try (EventJournal journal = new EventJournal(file, 3)) {
+            for (int i = 0; i < 5; i++) {
+                journal.append(JournalEventType.STATE, i, i, FlightType.ARRIVEE, 0, AirplaneState.EN_VOL);
+            }
+            assertEquals(3, journal.getRecordCount());
+            assertEquals(2, journal.getDroppedCount());
+        }
+        assertEquals(3, replay(file).size());
+    }
+
+    @Test
+    void otherFilesAreRejected() throws IOException {
+        Path file = dir.resolve("autre.bin");
+        Files.write(file, new byte[64]);
+        assertThrows(IOException.class, () -> new JournalReader(file));
+    }
+
+    @Test
+    void simulationReplaysToTheSameCounts() throws IOException {
+        Path file = dir.resolve("simulation.bin");
+        int arrivals = 40;
+        int departures = 20;
+        Airport airport = new Airport(2, 3, new MonitorSynchronization(2, 3), new SimLogger((t, m) -> { }));
+        EventSimulation sim = new EventSimulation(airport, 5);
+        try (EventJournal journal = new EventJournal(file, 10_000)) {
+            airport.setJournal(journal);
+            for (int i = 0; i < arrivals + departures; i++) {
+                if (i < arrivals) {
+                    sim.scheduleArrival(i * 500L);
+                } else {
+                    sim.scheduleDeparture(i * 500L);
+                }
+            }
+            sim.run();
+            airport.setJournal(null);
+            assertEquals(0, journal.getDroppedCount());
+        }
+
+        Map<JournalEventType, Integer> counts = new EnumMap<>(JournalEventType.class);
+        long[] lastTime = { Long.MIN_VALUE };
+        try (JournalReader reader = new JournalReader(file)) {
+            reader.replay((type, time, airplane, flightType, resource, state) -> {
+                counts.merge(type, 1, Integer::sum);
+                // un seul thread de simulation : le journal est dans l'ordre du temps
+                assertTrue(time >= lastTime[0], type + " à " + time);
+                lastTime[0] = time;
+            });
+        }
+        assertEquals(arrivals, counts.get(JournalEventType.LANDING_QUEUE_ADD));
+        assertEquals(arrivals, counts.get(JournalEventType.LANDING_QUEUE_REMOVE));
+        assertEquals(departures, counts.get(JournalEventType.TAKEOFF_QUEUE_ADD));
+        assertEquals(departures, counts.get(JournalEventType.TAKEOFF_QUEUE_REMOVE));
+        assertEquals(arrivals + departures, counts.get(JournalEventType.RUNWAY_OCCUPY));
+        assertEquals(arrivals + departures, counts.get(JournalEventType.RUNWAY_FREE));
+        assertEquals(counts.get(JournalEventType.GATE_OCCUPY), counts.get(JournalEventType.GATE_FREE));
+    }
+}
@@ -0,0 +1,128 @@
+package airport.schedule;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import airport.model.FlightType;
+
+class ScheduleRoundTripTest {
+
+    @TempDir
+    Path dir;
+
+    private static List<String> readAll(Path file) throws IOException {
+        List<String> flights = new ArrayList<>();
+        try (ScheduleReader reader = ScheduleReader.open(file)) {
+            while (reader.hasNext()) {
+                flights.add(reader.next().toString());
+            }
+        }
+        return flights;
+    }
+
+    private Path csv(String name, String... lines) throws IOException {
+        Path file = dir.resolve(name);
+        Files.write(file, List.of(lines), StandardCharsets.UTF_8);
+        return file;
+    }
+
+    // Écarts de 0 ms à plusieurs heures : varints de 1 à 4 octets
+    private static List<String> randomSchedule(int n) {
+        SplittableRandom random = new SplittableRandom(3);
+        List<String> flights = new ArrayList<>();
+        long t = 0;
+        for (int i = 0; i < n; i++) {
+            t += random.nextInt(4) == 0 ? random.nextLong(10_000_000) : random.nextLong(100);
+            flights.add(t + "," + (random.nextBoolean() ? FlightType.ARRIVEE : FlightType.DEPART));
+        }
+        return flights;
+    }
+
+    @Test
+    void binaryRoundTrip() throws IOException {
+        List<String> flights = randomSchedule(5_000);
+        Path file = dir.resolve("programme.aps");
+        try (ScheduleWriter writer = new ScheduleWriter(file)) {
+            for (String f : flights) {
+                String[] parts = f.split(",");
+                writer.append(Long.parseLong(parts[0]), FlightType.valueOf(parts[1]));
+            }
+            assertEquals(flights.size(), writer.getCount());
+        }
+        assertEquals(flights, readAll(file));
+    }
+
+    @Test
+    void csvToBinaryRoundTrip() throws IOException {
+        List<String> flights = randomSchedule(1_000);
+        List<String> lines = new ArrayList<>();
+        lines.add("# programme de test");
+        lines.add("temps_ms,type");
+        lines.addAll(flights);
+        Path source = csv("programme.csv", lines.toArray(new String[0]));
+        assertEquals(flights, readAll(source));
+
+        Path binary = dir.resolve("programme.aps");
+        try (ScheduleReader reader = ScheduleReader.open(source);
+             ScheduleWriter writer = new ScheduleWriter(binary)) {
+            while (reader.hasNext()) {
+                ScheduledFlight f = reader.next();
+                writer.append(f.getTimeMs(), f.getType());
+            }
+        }
+        assertEquals(flights, readAll(binary));
+        assertTrue(Files.size(binary) < Files.size(source));
+    }
+
+    @Test
+    void csvAcceptsShortAndAccentedTypes() throws IOException {
+        Path file = csv("types.csv",
+                "# en-tête après un commentaire",
+                "",
+                "instant,type",
+                "0, a",
+                "10,D",
+                "20,Arrivée",
+                "30,départ");
+        assertEquals(List.of("0,ARRIVEE", "10,DEPART", "20,ARRIVEE", "30,DEPART"), readAll(file));
+    }
+
+    @Test
+    void csvRejectsAHeaderAfterTheFirstFlight() throws IOException {
+        Path file = csv("entete.csv", "0,A", "temps,type");
+        assertThrows(UncheckedIOException.class, () -> readAll(file));
+    }
+
+    @Test
+    void csvRejectsUnknownTypes() throws IOException {
+        Path file = csv("inconnu.csv", "0,A", "5,X");
+        assertThrows(UncheckedIOException.class, () -> readAll(file));
+    }
+
+    @Test
+    void unsortedScheduleIsRejected() throws IOException {
+        Path file = csv("desordre.csv", "10,A", "5,D");
+        assertThrows(IllegalStateException.class, () -> readAll(file));
+    }
+
+    @Test
+    void writerRejectsDecreasingTimes() throws IOException {
+        try (ScheduleWriter writer = new ScheduleWriter(dir.resolve("desordre.aps"))) {
+            writer.append(10, FlightType.ARRIVEE);
+            assertThrows(IllegalArgumentException.class, () -> writer.append(5, FlightType.DEPART));
+        }
+    }
+}
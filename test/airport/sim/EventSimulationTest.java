@@ -0,0 +1,72 @@
+package airport.sim;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import airport.core.Airport;
+import airport.metrics.StrategyMetrics;
+import airport.model.FlightLimits;
+import airport.sync.MonitorSynchronization;
+import airport.utils.SimLogger;
+
+class EventSimulationTest {
+
+    // Ordre et instant de fin de chaque vol, plus les compteurs d'attente
+    private static List<String> trace(long seed, FlightLimits limits) {
+        Airport airport = new Airport(2, 3, new MonitorSynchronization(2, 3), new SimLogger((t, m) -> { }));
+        airport.setFlightLimits(limits);
+        EventSimulation sim = new EventSimulation(airport, seed);
+        List<String> trace = new ArrayList<>();
+        sim.setCompletionListener(a -> trace.add(a.getAirplaneId() + "@" + sim.now()));
+        for (int i = 0; i < 300; i++) {
+            if (i % 3 == 0) {
+                sim.scheduleDeparture(i * 400L);
+            } else {
+                sim.scheduleArrival(i * 400L);
+            }
+        }
+        sim.run();
+        assertEquals(300, sim.getCompletedFlights());
+        assertEquals(0, sim.pendingEvents());
+        StrategyMetrics m = airport.getCurrentMetrics();
+        trace.add("déroutements=" + m.getDiversions() + " postes=" + m.getRemoteStands());
+        return trace;
+    }
+
+    @Test
+    void sameSeedGivesSameRun() {
+        assertEquals(trace(42, FlightLimits.NONE), trace(42, FlightLimits.NONE));
+    }
+
+    @Test
+    void sameSeedGivesSameRunWithTimeouts() {
+        FlightLimits limits = new FlightLimits(3_000, 1_000);
+        List<String> first = trace(7, limits);
+        assertEquals(first, trace(7, limits));
+        // la charge doit bien déclencher des échéances
+        assertNotEquals("déroutements=0 postes=0", first.get(first.size() - 1));
+    }
+
+    @Test
+    void otherSeedGivesOtherRun() {
+        assertNotEquals(trace(1, FlightLimits.NONE), trace(2, FlightLimits.NONE));
+    }
+
+    @Test
+    void runUntilStopsAtTheGivenTime() {
+        Airport airport = new Airport(1, 1, new MonitorSynchronization(1, 1), new SimLogger((t, m) -> { }));
+        EventSimulation sim = new EventSimulation(airport, 3);
+        List<Long> fired = new ArrayList<>();
+        sim.schedule(10, () -> fired.add(sim.now()));
+        sim.schedule(20, () -> fired.add(sim.now()));
+        sim.runUntil(15);
+        assertEquals(List.of(10L), fired);
+        assertEquals(15, sim.now());
+        assertEquals(20, sim.nextEventTime());
+    }
+}
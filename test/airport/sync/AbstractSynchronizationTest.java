@@ -0,0 +1,216 @@
+package airport.sync;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Propriétés communes à toutes les stratégies : exclusion mutuelle sur les
+ * pistes et les portes, priorité des arrivées, et échéances qui ne laissent
+ * rien derrière elles. Une sous-classe par stratégie.
+ */
+abstract class AbstractSynchronizationTest {
+
+    private static final int THREADS = 8;
+    private static final int ROUNDS = 300;
+
+    abstract AirportSynchronization create(int runways, int gates);
+
+    // Attend qu'un thread soit bloqué dans la stratégie
+    private static void awaitBlocked(Thread t) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (t.getState() != Thread.State.WAITING && t.getState() != Thread.State.TIMED_WAITING) {
+            if (System.nanoTime() > deadline) {
+                fail(t.getName() + " ne s'est pas mis en attente");
+            }
+            Thread.sleep(1);
+        }
+    }
+
+    private static void joinAll(List<Thread> threads) throws InterruptedException {
+        for (Thread t : threads) {
+            t.join(TimeUnit.SECONDS.toMillis(30));
+            assertFalse(t.isAlive(), t.getName() + " est resté bloqué");
+        }
+    }
+
+    @Test
+    void runwaysAreMutuallyExclusive() throws InterruptedException {
+        int runways = 2;
+        AirportSynchronization sync = create(runways, 1);
+        AtomicInteger onRunway = new AtomicInteger();
+        AtomicInteger maxOnRunway = new AtomicInteger();
+        List<Throwable> errors = Collections.synchronizedList(new ArrayList<>());
+        List<Thread> threads = new ArrayList<>();
+        for (int k = 0; k < THREADS; k++) {
+            boolean landing = k % 2 == 0;
+            Thread t = new Thread(() -> {
+                try {
+                    for (int i = 0; i < ROUNDS; i++) {
+                        if (landing) {
+                            sync.requestRunwayForLanding();
+                        } else {
+                            sync.requestRunwayForTakeoff();
+                        }
+                        maxOnRunway.accumulateAndGet(onRunway.incrementAndGet(), Math::max);
+                        Thread.yield();
+                        onRunway.decrementAndGet();
+                        sync.releaseRunway();
+                    }
+                } catch (Throwable e) {
+                    errors.add(e);
+                }
+            }, "piste-" + k);
+            threads.add(t);
+            t.start();
+        }
+        joinAll(threads);
+        assertEquals(List.of(), errors);
+        assertTrue(maxOnRunway.get() <= runways, "pistes occupées à la fois : " + maxOnRunway);
+    }
+
+    @Test
+    void gatesAreMutuallyExclusive() throws InterruptedException {
+        int gates = 3;
+        AirportSynchronization sync = create(1, gates);
+        AtomicInteger atGate = new AtomicInteger();
+        AtomicInteger maxAtGate = new AtomicInteger();
+        List<Throwable> errors = Collections.synchronizedList(new ArrayList<>());
+        List<Thread> threads = new ArrayList<>();
+        for (int k = 0; k < THREADS; k++) {
+            Thread t = new Thread(() -> {
+                try {
+                    for (int i = 0; i < ROUNDS; i++) {
+                        sync.requestGate();
+                        maxAtGate.accumulateAndGet(atGate.incrementAndGet(), Math::max);
+                        Thread.yield();
+                        atGate.decrementAndGet();
+                        sync.releaseGate();
+                    }
+                } catch (Throwable e) {
+                    errors.add(e);
+                }
+            }, "porte-" + k);
+            threads.add(t);
+            t.start();
+        }
+        joinAll(threads);
+        assertEquals(List.of(), errors);
+        assertTrue(maxAtGate.get() <= gates, "portes occupées à la fois : " + maxAtGate);
+    }
+
+    @Test
+    void arrivalsGoBeforeDepartures() throws InterruptedException {
+        AirportSynchronization sync = create(1, 1);
+        sync.requestRunwayForLanding();
+
+        List<String> order = Collections.synchronizedList(new ArrayList<>());
+        Thread takeoff = new Thread(() -> {
+            try {
+                sync.requestRunwayForTakeoff();
+                order.add("départ");
+                sync.releaseRunway();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }, "départ");
+        Thread landing = new Thread(() -> {
+            try {
+                sync.requestRunwayForLanding();
+                order.add("arrivée");
+                sync.releaseRunway();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }, "arrivée");
+
+        // le départ attend depuis plus longtemps, l'arrivée passe quand même
+        takeoff.start();
+        awaitBlocked(takeoff);
+        landing.start();
+        awaitBlocked(landing);
+        sync.releaseRunway();
+
+        joinAll(List.of(takeoff, landing));
+        assertEquals(List.of("arrivée", "départ"), order);
+    }
+
+    @Test
+    void timedOutRequestHoldsNothing() throws InterruptedException {
+        AirportSynchronization sync = create(1, 1);
+        sync.requestRunwayForLanding();
+        sync.requestGate();
+
+        assertFalse(sync.tryRequestRunwayForLanding(20, TimeUnit.MILLISECONDS));
+        assertFalse(sync.tryRequestGate(20, TimeUnit.MILLISECONDS));
+
+        // une seule piste et une seule porte, toujours : rien n'a été perdu ni créé
+        sync.releaseRunway();
+        sync.releaseGate();
+        assertTrue(sync.tryRequestRunwayForLanding(1, TimeUnit.SECONDS));
+        assertTrue(sync.tryRequestGate(1, TimeUnit.SECONDS));
+        assertFalse(sync.tryRequestRunwayForLanding(20, TimeUnit.MILLISECONDS));
+        assertFalse(sync.tryRequestGate(20, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void timeoutReturnsFalseAfterTheDelay() throws InterruptedException {
+        AirportSynchronization sync = create(1, 1);
+        sync.requestRunwayForTakeoff();
+        sync.requestGate();
+
+        long t0 = System.nanoTime();
+        assertFalse(sync.tryRequestRunwayForLanding(50, TimeUnit.MILLISECONDS));
+        assertTrue(System.nanoTime() - t0 >= TimeUnit.MILLISECONDS.toNanos(45), "échéance non respectée");
+        t0 = System.nanoTime();
+        assertFalse(sync.tryRequestGate(50, TimeUnit.MILLISECONDS));
+        assertTrue(System.nanoTime() - t0 >= TimeUnit.MILLISECONDS.toNanos(45), "échéance non respectée");
+    }
+
+    @Test
+    void departureGoesThroughOnceTheLandingWaiterGivesUp() throws InterruptedException {
+        AirportSynchronization sync = create(1, 1);
+        sync.requestRunwayForLanding();
+
+        AtomicBoolean landed = new AtomicBoolean(true);
+        Thread landing = new Thread(() -> {
+            try {
+                landed.set(sync.tryRequestRunwayForLanding(100, TimeUnit.MILLISECONDS));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }, "arrivée");
+        List<String> order = Collections.synchronizedList(new ArrayList<>());
+        Thread takeoff = new Thread(() -> {
+            try {
+                sync.requestRunwayForTakeoff();
+                order.add("départ");
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }, "départ");
+
+        landing.start();
+        awaitBlocked(landing);
+        takeoff.start();
+        awaitBlocked(takeoff);
+        // l'arrivée abandonne pendant que la piste est tenue
+        joinAll(List.of(landing));
+        assertFalse(landed.get());
+
+        // plus aucune arrivée en attente : le départ ne doit pas rester bloqué
+        sync.releaseRunway();
+        joinAll(List.of(takeoff));
+        assertEquals(List.of("départ"), order);
+    }
+}
@@ -0,0 +1,9 @@
+package airport.sync;
+
+class CasSynchronizationTest extends AbstractSynchronizationTest {
+
+    @Override
+    AirportSynchronization create(int runways, int gates) {
+        return new CasSynchronization(runways, gates);
+    }
+}
@@ -0,0 +1,95 @@
+package airport.sync;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Compteurs de contention sur un scénario déterministe : un détenteur (le
+ * thread du test) et un seul waiter.
+ */
+class ContentionStatsTest {
+
+    private static final long PAUSE_MS = 60;
+
+    private static void awaitBlocked(Thread t) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (t.getState() != Thread.State.WAITING && t.getState() != Thread.State.TIMED_WAITING) {
+            if (System.nanoTime() > deadline) {
+                fail(t.getName() + " ne s'est pas mis en attente");
+            }
+            Thread.sleep(1);
+        }
+    }
+
+    @Test
+    void holderAndWaiter() throws InterruptedException {
+        MonitorSynchronization sync = new MonitorSynchronization(1, 1);
+        ContentionStats stats = sync.getContentionStats();
+        sync.requestRunwayForLanding();
+        sync.requestGate();
+        ContentionStats.Snapshot before = stats.snapshot();
+
+        Thread waiter = new Thread(() -> {
+            try {
+                sync.requestRunwayForLanding();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }, "arrivée");
+        waiter.start();
+        awaitBlocked(waiter);
+        Thread.sleep(PAUSE_MS);
+
+        // même monitor : rendre la porte réveille l'arrivée pour rien
+        sync.releaseGate();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (stats.snapshot().getFutileWakeups() == before.getFutileWakeups()) {
+            if (System.nanoTime() > deadline) {
+                fail("réveil inutile non compté");
+            }
+            Thread.sleep(1);
+        }
+        awaitBlocked(waiter);
+        Thread.sleep(PAUSE_MS);
+
+        sync.releaseRunway();
+        waiter.join(5_000);
+        assertFalse(waiter.isAlive());
+
+        ContentionStats.Snapshot d = stats.snapshot().minus(before);
+        assertEquals(1, d.getResourceWaits());
+        assertEquals(2, d.getWakeups());
+        assertEquals(1, d.getFutileWakeups());
+        // l'arrivée a attendu les deux pauses, sans tenir le monitor pendant ce temps
+        assertTrue(d.getResourceWaitNanos() >= TimeUnit.MILLISECONDS.toNanos(2 * PAUSE_MS),
+                "attente ressource : " + d.getResourceWaitNanos());
+        assertTrue(d.getHoldNanos() < TimeUnit.MILLISECONDS.toNanos(PAUSE_MS),
+                "détention : " + d.getHoldNanos());
+    }
+
+    @Test
+    void timeoutIsNotAWakeup() throws InterruptedException {
+        for (ContentionProfiled profiled : new ContentionProfiled[] {
+                new MonitorSynchronization(1, 1), new LockConditionSynchronization(1, 1) }) {
+            AirportSynchronization sync = (AirportSynchronization) profiled;
+            sync.requestRunwayForLanding();
+            sync.requestGate();
+            ContentionStats.Snapshot before = profiled.getContentionStats().snapshot();
+
+            assertFalse(sync.tryRequestRunwayForLanding(30, TimeUnit.MILLISECONDS));
+            assertFalse(sync.tryRequestGate(30, TimeUnit.MILLISECONDS));
+
+            ContentionStats.Snapshot d = profiled.getContentionStats().snapshot().minus(before);
+            String name = sync.getClass().getSimpleName();
+            assertEquals(2, d.getResourceWaits(), name);
+            assertEquals(0, d.getWakeups(), name);
+            assertEquals(0, d.getFutileWakeups(), name);
+        }
+    }
+}
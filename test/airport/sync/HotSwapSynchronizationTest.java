@@ -0,0 +1,187 @@
+package airport.sync;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+class HotSwapSynchronizationTest extends AbstractSynchronizationTest {
+
+    @Override
+    AirportSynchronization create(int runways, int gates) {
+        return new HotSwapSynchronization(SyncStrategy.SEMAPHORE, runways, gates);
+    }
+
+    private static void awaitBlocked(Thread t) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (t.getState() != Thread.State.WAITING && t.getState() != Thread.State.TIMED_WAITING) {
+            if (System.nanoTime() > deadline) {
+                fail(t.getName() + " ne s'est pas mis en attente");
+            }
+            Thread.sleep(1);
+        }
+    }
+
+    private static Thread start(String name, List<String> order, HotSwapSynchronization sync, boolean landing) {
+        Thread t = new Thread(() -> {
+            try {
+                if (landing) {
+                    sync.requestRunwayForLanding();
+                } else {
+                    sync.requestRunwayForTakeoff();
+                }
+                order.add(name);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }, name);
+        t.start();
+        return t;
+    }
+
+    // Les avions repris gardent leur rang d'arrivée, devant les nouvelles
+    // demandes, et une arrivée (reprise ou nouvelle) passe avant les départs.
+    @Test
+    void migratedWaitersKeepTheirOrderAndArrivalPriority() throws InterruptedException {
+        HotSwapSynchronization sync = new HotSwapSynchronization(SyncStrategy.SEMAPHORE, 1, 1);
+        sync.requestRunwayForLanding();
+        List<String> order = Collections.synchronizedList(new ArrayList<>());
+        List<Thread> waiting = new ArrayList<>();
+
+        for (String name : new String[] { "D1", "A1", "A2" }) {
+            Thread t = start(name, order, sync, name.startsWith("A"));
+            awaitBlocked(t);
+            waiting.add(t);
+        }
+        assertEquals(3, sync.swap(SyncStrategy.CAS));
+        for (String name : new String[] { "A3", "D2" }) {
+            Thread t = start(name, order, sync, name.startsWith("A"));
+            waiting.add(t);
+        }
+
+        // une piste à la fois, une fois que tout le monde attend
+        for (int served = 0; served < waiting.size(); served++) {
+            for (Thread t : waiting) {
+                if (t.isAlive()) {
+                    awaitBlocked(t);
+                }
+            }
+            sync.releaseRunway();
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (order.size() == served && System.nanoTime() < deadline) {
+                Thread.sleep(1);
+            }
+        }
+        for (Thread t : waiting) {
+            t.join(5_000);
+            assertFalse(t.isAlive(), t.getName() + " est resté bloqué");
+        }
+        assertEquals(List.of("A1", "A2", "A3", "D1", "D2"), order);
+        assertEquals(1, sync.getHeldRunways());
+        assertTrue(sync.getMigratedWaiters() >= 3);
+    }
+
+    @Test
+    void swapWithoutWaitersMovesNobody() throws InterruptedException {
+        HotSwapSynchronization sync = new HotSwapSynchronization(SyncStrategy.MONITEUR, 2, 2);
+        sync.requestGate();
+        assertEquals(0, sync.swap(SyncStrategy.REENTRANT_LOCK));
+        assertEquals(0, sync.swap(SyncStrategy.REENTRANT_LOCK));
+        sync.releaseGate();
+        assertEquals(0, sync.getHeldGates());
+        assertEquals(1, sync.getSwapCount());
+        // la nouvelle stratégie a bien ses deux portes
+        assertTrue(sync.tryRequestGate(1, TimeUnit.SECONDS));
+        assertTrue(sync.tryRequestGate(1, TimeUnit.SECONDS));
+        assertFalse(sync.tryRequestGate(10, TimeUnit.MILLISECONDS));
+    }
+
+    // Bascules en boucle entre toutes les stratégies pendant le trafic
+    @Test
+    void repeatedSwapsUnderTraffic() throws InterruptedException {
+        int runways = 2;
+        int gates = 3;
+        HotSwapSynchronization sync = new HotSwapSynchronization(SyncStrategy.MONITEUR, runways, gates);
+        AtomicInteger onRunway = new AtomicInteger();
+        AtomicInteger atGate = new AtomicInteger();
+        AtomicInteger maxOnRunway = new AtomicInteger();
+        AtomicInteger maxAtGate = new AtomicInteger();
+        AtomicInteger timeouts = new AtomicInteger();
+        List<Throwable> errors = Collections.synchronizedList(new ArrayList<>());
+
+        List<Thread> flights = new ArrayList<>();
+        for (int k = 0; k < 12; k++) {
+            int kind = k % 3;
+            Thread t = new Thread(() -> {
+                try {
+                    for (int i = 0; i < 200; i++) {
+                        boolean got;
+                        if (kind == 0) {
+                            sync.requestRunwayForLanding();
+                            got = true;
+                        } else if (kind == 1) {
+                            sync.requestRunwayForTakeoff();
+                            got = true;
+                        } else {
+                            got = sync.tryRequestRunwayForLanding(2, TimeUnit.MILLISECONDS);
+                        }
+                        if (got) {
+                            maxOnRunway.accumulateAndGet(onRunway.incrementAndGet(), Math::max);
+                            Thread.yield();
+                            onRunway.decrementAndGet();
+                            sync.releaseRunway();
+                        } else {
+                            timeouts.incrementAndGet();
+                        }
+                        sync.requestGate();
+                        maxAtGate.accumulateAndGet(atGate.incrementAndGet(), Math::max);
+                        Thread.yield();
+                        atGate.decrementAndGet();
+                        sync.releaseGate();
+                    }
+                } catch (Throwable e) {
+                    errors.add(e);
+                }
+            }, "vol-" + k);
+            flights.add(t);
+            t.start();
+        }
+
+        AtomicBoolean stop = new AtomicBoolean();
+        Thread swapper = new Thread(() -> {
+            SyncStrategy[] all = SyncStrategy.values();
+            for (int i = 1; !stop.get(); i++) {
+                sync.swap(all[i % all.length]);
+                try {
+                    Thread.sleep(1);
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+        }, "bascule");
+        swapper.start();
+
+        for (Thread t : flights) {
+            t.join(TimeUnit.SECONDS.toMillis(60));
+            assertFalse(t.isAlive(), t.getName() + " est resté bloqué (avion perdu dans une bascule)");
+        }
+        stop.set(true);
+        swapper.join();
+
+        assertEquals(List.of(), errors);
+        assertTrue(maxOnRunway.get() <= runways, "pistes occupées à la fois : " + maxOnRunway);
+        assertTrue(maxAtGate.get() <= gates, "portes occupées à la fois : " + maxAtGate);
+        assertEquals(0, sync.getHeldRunways());
+        assertEquals(0, sync.getHeldGates());
+        assertTrue(sync.getSwapCount() > 10, "bascules : " + sync.getSwapCount());
+    }
+}
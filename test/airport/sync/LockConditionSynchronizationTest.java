@@ -0,0 +1,9 @@
+package airport.sync;
+
+class LockConditionSynchronizationTest extends AbstractSynchronizationTest {
+
+    @Override
+    AirportSynchronization create(int runways, int gates) {
+        return new LockConditionSynchronization(runways, gates);
+    }
+}
@@ -0,0 +1,9 @@
+package airport.sync;
+
+class MonitorSynchronizationTest extends AbstractSynchronizationTest {
+
+    @Override
+    AirportSynchronization create(int runways, int gates) {
+        return new MonitorSynchronization(runways, gates);
+    }
+}
@@ -0,0 +1,179 @@
+package airport.sync;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import airport.core.Airport;
+import airport.model.Airplane;
+import airport.model.FlightType;
+import airport.model.WakeCategory;
+import airport.utils.SimLogger;
+
+class RunwaySequencingSynchronizationTest extends AbstractSynchronizationTest {
+
+    @Override
+    AirportSynchronization create(int runways, int gates) {
+        return new RunwaySequencingSynchronization(runways, gates);
+    }
+
+    // Horloge figée : un suiveur léger derrière un lourd attend tout l'écart
+    private static final Airport AIRPORT = new Airport(1, 1, new SemaphoreSynchronization(1, 1),
+            new SimLogger((t, m) -> { }));
+
+    static {
+        AIRPORT.setClock(() -> 0L);
+    }
+
+    private static Airplane plane(String id, FlightType type, WakeCategory category) {
+        for (long seed = 0; ; seed++) {
+            Airplane a = new Airplane(id, type, AIRPORT, new SimLogger((t, m) -> { }), 1.0,
+                    new SplittableRandom(seed));
+            if (a.getWakeCategory() == category) {
+                return a;
+            }
+        }
+    }
+
+    private static void awaitBlocked(Thread t) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (t.getState() != Thread.State.WAITING && t.getState() != Thread.State.TIMED_WAITING) {
+            if (System.nanoTime() > deadline) {
+                fail(t.getName() + " ne s'est pas mis en attente");
+            }
+            Thread.sleep(1);
+        }
+    }
+
+    // Demande la piste et note l'avion servi, sans la rendre
+    private static Thread request(RunwaySequencingSynchronization sync, Airplane a, List<Airplane> granted)
+            throws InterruptedException {
+        Thread t = new Thread(() -> {
+            try {
+                if (a.getType() == FlightType.ARRIVEE) {
+                    sync.requestRunwayForLanding(a);
+                } else {
+                    sync.requestRunwayForTakeoff(a);
+                }
+                granted.add(a);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }, a.getAirplaneId());
+        t.start();
+        awaitBlocked(t);
+        return t;
+    }
+
+    // Rend la piste au nom de son dernier utilisateur et attend le suivant
+    private static Airplane handOver(RunwaySequencingSynchronization sync, Airplane holder,
+            List<Airplane> granted) throws InterruptedException {
+        int before = granted.size();
+        sync.releaseRunway(holder, 0);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (granted.size() == before) {
+            if (System.nanoTime() > deadline) {
+                fail("piste non réattribuée après " + holder.getAirplaneId());
+            }
+            Thread.sleep(1);
+        }
+        Airplane next = granted.get(before);
+        assertEquals(0, sync.assignedRunway(next));
+        return next;
+    }
+
+    @Test
+    void noWaiterIsOvertakenMoreThanMaxShift() throws InterruptedException {
+        RunwaySequencingSynchronization sync = new RunwaySequencingSynchronization(1, 1);
+        Airplane holder = plane("A0", FlightType.ARRIVEE, WakeCategory.LOURD);
+        sync.requestRunwayForLanding(holder);
+        sync.assignedRunway(holder);
+
+        List<Airplane> granted = Collections.synchronizedList(new ArrayList<>());
+        List<Thread> threads = new ArrayList<>();
+        // le léger arrive le premier, derrière lui des lourds toujours prêts plus tôt
+        Airplane light = plane("A1", FlightType.ARRIVEE, WakeCategory.LEGER);
+        threads.add(request(sync, light, granted));
+        for (int i = 2; i <= RunwaySequencingSynchronization.MAX_SHIFT + 3; i++) {
+            threads.add(request(sync, plane("A" + i, FlightType.ARRIVEE, WakeCategory.LOURD), granted));
+        }
+
+        for (int i = 0; i < threads.size(); i++) {
+            holder = handOver(sync, holder, granted);
+        }
+        for (Thread t : threads) {
+            t.join(5_000);
+            assertFalse(t.isAlive());
+        }
+        assertEquals(RunwaySequencingSynchronization.MAX_SHIFT, granted.indexOf(light),
+                "rang du léger : " + granted.indexOf(light));
+    }
+
+    @Test
+    void noDepartureWhileAnArrivalWaits() throws InterruptedException {
+        RunwaySequencingSynchronization sync = new RunwaySequencingSynchronization(1, 1);
+        Airplane holder = plane("A0", FlightType.ARRIVEE, WakeCategory.LOURD);
+        sync.requestRunwayForLanding(holder);
+        sync.assignedRunway(holder);
+
+        List<Airplane> granted = Collections.synchronizedList(new ArrayList<>());
+        // les départs lourds seraient prêts tout de suite, l'arrivée légère dans 2 s
+        Airplane d1 = plane("D1", FlightType.DEPART, WakeCategory.LOURD);
+        Airplane d2 = plane("D2", FlightType.DEPART, WakeCategory.LOURD);
+        Airplane arrival = plane("A1", FlightType.ARRIVEE, WakeCategory.LEGER);
+        List<Thread> threads = List.of(request(sync, d1, granted), request(sync, d2, granted),
+                request(sync, arrival, granted));
+
+        for (int i = 0; i < threads.size(); i++) {
+            holder = handOver(sync, holder, granted);
+        }
+        assertEquals(List.of(arrival, d1, d2), granted);
+    }
+
+    @Test
+    void assignedRunwayReturnsTheReservedIndex() throws InterruptedException {
+        RunwaySequencingSynchronization sync = new RunwaySequencingSynchronization(2, 1);
+        Airplane a0 = plane("A0", FlightType.ARRIVEE, WakeCategory.MOYEN);
+        Airplane a1 = plane("A1", FlightType.ARRIVEE, WakeCategory.MOYEN);
+        sync.requestRunwayForLanding(a0);
+        sync.requestRunwayForLanding(a1);
+        int r0 = sync.assignedRunway(a0);
+        int r1 = sync.assignedRunway(a1);
+        assertEquals(1, r0 + r1);
+        assertTrue(r0 == 0 || r0 == 1);
+        // réservation consommée
+        assertEquals(-1, sync.assignedRunway(a0));
+
+        List<Airplane> granted = Collections.synchronizedList(new ArrayList<>());
+        Airplane a2 = plane("A2", FlightType.ARRIVEE, WakeCategory.MOYEN);
+        Thread t = request(sync, a2, granted);
+        sync.releaseRunway(a1, r1);
+        t.join(5_000);
+        assertEquals(List.of(a2), granted);
+        assertEquals(r1, sync.assignedRunway(a2));
+    }
+
+    @Test
+    void releaseWithoutHeldRunwayIsRejected() throws InterruptedException {
+        // bascule à chaud : deux pistes dont une encore tenue
+        RunwaySequencingSynchronization sync = new RunwaySequencingSynchronization(2, 1, 1);
+        sync.releaseRunway(null, 1);
+        assertThrows(IllegalStateException.class, () -> sync.releaseRunway(null, 1));
+        assertThrows(IllegalStateException.class, () -> sync.releaseRunway(null, 5));
+
+        // toujours deux pistes, pas une de plus
+        assertTrue(sync.tryRequestRunwayForLanding(1, TimeUnit.SECONDS));
+        assertTrue(sync.tryRequestRunwayForLanding(1, TimeUnit.SECONDS));
+        assertFalse(sync.tryRequestRunwayForLanding(20, TimeUnit.MILLISECONDS));
+    }
+}
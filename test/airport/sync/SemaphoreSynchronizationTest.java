@@ -0,0 +1,9 @@
+package airport.sync;
+
+class SemaphoreSynchronizationTest extends AbstractSynchronizationTest {
+
+    @Override
+    AirportSynchronization create(int runways, int gates) {
+        return new SemaphoreSynchronization(runways, gates);
+    }
+}
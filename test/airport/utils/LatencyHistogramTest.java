@@ -0,0 +1,76 @@
+package airport.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+class LatencyHistogramTest {
+
+    @Test
+    void emptyHistogramReportsZero() {
+        LatencyHistogram h = new LatencyHistogram();
+        assertEquals(0, h.getCount());
+        assertEquals(0, h.valueAtPercentile(50));
+        assertEquals(0, h.getMean());
+    }
+
+    @Test
+    void smallValuesAreExact() {
+        LatencyHistogram h = new LatencyHistogram();
+        for (long v = 1; v <= 50; v++) {
+            h.record(v);
+        }
+        assertEquals(25, h.valueAtPercentile(50));
+        assertEquals(50, h.valueAtPercentile(100));
+        assertEquals(1, h.valueAtPercentile(0));
+    }
+
+    @Test
+    void percentilesStayWithinBucketPrecision() {
+        LatencyHistogram h = new LatencyHistogram();
+        SplittableRandom random = new SplittableRandom(11);
+        long[] values = new long[100_000];
+        for (int i = 0; i < values.length; i++) {
+            // de la microseconde à la seconde, en ns
+            values[i] = 1_000 + (long) Math.pow(10, random.nextDouble(0, 6));
+            h.record(values[i]);
+        }
+        Arrays.sort(values);
+        for (double p : new double[] { 50, 90, 99, 99.9, 100 }) {
+            long exact = values[(int) Math.ceil(p / 100 * values.length) - 1];
+            long reported = h.valueAtPercentile(p);
+            // borne haute de la case : jamais en dessous, au plus 1/32 au-dessus
+            assertTrue(reported >= exact, "p" + p + " : " + reported + " < " + exact);
+            assertTrue(reported <= exact + exact / 32 + 1, "p" + p + " : " + reported + " >> " + exact);
+        }
+        assertEquals(values[values.length - 1], h.getMax());
+        assertEquals(values[values.length - 1], h.valueAtPercentile(100));
+    }
+
+    @Test
+    void negativeValuesCountAsZero() {
+        LatencyHistogram h = new LatencyHistogram();
+        h.record(-5);
+        assertEquals(1, h.getCount());
+        assertEquals(0, h.valueAtPercentile(100));
+    }
+
+    @Test
+    void addMergesCountsAndMax() {
+        LatencyHistogram a = new LatencyHistogram();
+        LatencyHistogram b = new LatencyHistogram();
+        a.record(10);
+        b.record(1_000_000);
+        a.add(b);
+        assertEquals(2, a.getCount());
+        assertEquals(1_000_000, a.getMax());
+        assertEquals(10, a.valueAtPercentile(50));
+        a.reset();
+        assertEquals(0, a.getCount());
+        assertEquals(0, a.getMax());
+    }
+}